@@ -0,0 +1,253 @@
+package nimons.core;
+
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+import nimons.gui.SpriteAnimation;
+
+public class AssetRegistry {
+
+
+    private static volatile AssetRegistry instance;
+
+
+    private static final String IMAGE_DIR = "/assets/picture/";
+    private static final String FONT_DIR = "/assets/fonts/";
+    private static final String[] MENU_IMAGES = { "/assets/menu_background.png" };
+
+
+    private final ExecutorService loader;
+    private final Map<String, CompletableFuture<Image>> images = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<SpriteAnimation>> animations = new ConcurrentHashMap<>();
+    private final List<CompletableFuture<?>> fonts = new ArrayList<>();
+    private final AtomicInteger totalTasks = new AtomicInteger(0);
+    private final AtomicInteger completedTasks = new AtomicInteger(0);
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0.0);
+    private boolean preloadStarted = false;
+
+
+    private AssetRegistry() {
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "AssetLoader-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        this.loader = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+
+    public static AssetRegistry getInstance() {
+        if (instance == null) {
+            synchronized (AssetRegistry.class) {
+                if (instance == null) {
+                    instance = new AssetRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+
+    public synchronized void preloadAll() {
+        if (preloadStarted) {
+            return;
+        }
+        preloadStarted = true;
+        long start = System.currentTimeMillis();
+
+        List<String> fontPaths = listResources(FONT_DIR, ".ttf");
+        List<String> imagePaths = new ArrayList<>();
+        for (String menuImage : MENU_IMAGES) {
+            imagePaths.add(menuImage);
+        }
+        imagePaths.addAll(listResources(IMAGE_DIR, ".png", ".gif"));
+        List<String> gifPaths = new ArrayList<>();
+        for (String path : imagePaths) {
+            if (path.endsWith(".gif")) {
+                gifPaths.add(path);
+            }
+        }
+
+
+        totalTasks.set(fontPaths.size() + imagePaths.size() + gifPaths.size() + 1);
+        for (String path : fontPaths) {
+            fonts.add(track(CompletableFuture.runAsync(() -> decodeFont(path), loader)));
+        }
+        for (String path : imagePaths) {
+            track(requestImage(path));
+        }
+        for (String path : gifPaths) {
+            track(requestAnimation(path));
+        }
+        track(CompletableFuture.runAsync(SoundManager::getInstance, loader));
+
+        CompletableFuture.allOf(images.values().toArray(CompletableFuture<?>[]::new))
+            .thenRun(() -> System.out.println("[AssetRegistry] " + images.size() + " images ready in "
+                + (System.currentTimeMillis() - start) + "ms"));
+    }
+
+
+    public void awaitFonts() {
+        List<CompletableFuture<?>> pending;
+        synchronized (this) {
+            pending = new ArrayList<>(fonts);
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture<?>[]::new)).join();
+    }
+
+
+    public Image getImage(String path) {
+        return requestImage(path).join();
+    }
+
+
+    public CompletableFuture<Image> loadImage(String path) {
+        return requestImage(path);
+    }
+
+
+    public SpriteAnimation getAnimation(String path) {
+        return requestAnimation(path).join();
+    }
+
+
+    private CompletableFuture<Image> requestImage(String path) {
+        return images.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> decodeImage(p), loader));
+    }
+
+
+    private CompletableFuture<SpriteAnimation> requestAnimation(String path) {
+        return animations.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> decodeAnimation(p), loader));
+    }
+
+
+    private <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        future.whenComplete((result, error) -> {
+            double ratio = completedTasks.incrementAndGet() / (double) Math.max(1, totalTasks.get());
+            Platform.runLater(() -> progress.set(Math.min(1.0, ratio)));
+        });
+        return future;
+    }
+
+
+    private Image decodeImage(String path) {
+        try (InputStream is = AssetRegistry.class.getResourceAsStream(path)) {
+            if (is == null) {
+                System.err.println("[AssetRegistry] Image not found: " + path);
+                return null;
+            }
+            Image image = new Image(is);
+            return image.isError() ? null : image;
+        } catch (Exception e) {
+            System.err.println("[AssetRegistry] Failed to load image: " + path + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+
+    private SpriteAnimation decodeAnimation(String path) {
+        try (InputStream is = AssetRegistry.class.getResourceAsStream(path)) {
+            if (is == null) {
+                System.err.println("[AssetRegistry] Animation not found: " + path);
+                return null;
+            }
+            return SpriteAnimation.decodeGif(is);
+        } catch (Exception e) {
+            System.err.println("[AssetRegistry] Failed to decode animation: " + path + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+
+    private void decodeFont(String path) {
+        try (InputStream is = AssetRegistry.class.getResourceAsStream(path)) {
+            Font loaded = is != null ? Font.loadFont(is, 12) : null;
+            System.out.println("[AssetRegistry] Loaded font " + path + " -> family=" + (loaded != null ? loaded.getFamily() : "null"));
+        } catch (Exception e) {
+            System.err.println("[AssetRegistry] Failed to load font: " + path + " (" + e.getMessage() + ")");
+        }
+    }
+
+
+    private static List<String> listResources(String directory, String... extensions) {
+        List<String> paths = new ArrayList<>();
+        URL url = AssetRegistry.class.getResource(directory);
+        if (url == null) {
+            return paths;
+        }
+
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) url.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jar = connection.getJarFile()) {
+                    String prefix = directory.substring(1);
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        String name = entries.nextElement().getName();
+                        if (name.startsWith(prefix) && name.indexOf('/', prefix.length()) < 0 && hasExtension(name, extensions)) {
+                            paths.add("/" + name);
+                        }
+                    }
+                }
+            } else {
+                try (Stream<Path> files = Files.list(Paths.get(url.toURI()))) {
+                    files.map(file -> file.getFileName().toString())
+                        .filter(name -> hasExtension(name, extensions))
+                        .forEach(name -> paths.add(directory + name));
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("[AssetRegistry] Failed to list " + directory + ": " + e.getMessage());
+        }
+        paths.sort(null);
+        return paths;
+    }
+
+
+    private static boolean hasExtension(String name, String... extensions) {
+        for (String extension : extensions) {
+            if (name.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    public boolean isReady() {
+        return preloadStarted && completedTasks.get() >= totalTasks.get();
+    }
+}
@@ -29,6 +29,21 @@ public final class GameConfig {
     public static final int ORDER_DURATION_SECONDS = 60;
     
     
+    public static final long FIXED_TIMESTEP_MS = 16;
+    
+    
+    public static final long MAX_FRAME_TIME_MS = 250;
+    
+    
+    public static final int UNBOUNDED_STEPS_PER_FRAME = 2000;
+    
+    
+    public static final boolean SAVE_REPLAYS = true;
+    
+    
+    public static final String REPLAY_DIRECTORY = "replays";
+    
+    
     
     
     public static final int WINDOW_WIDTH = 1200;
@@ -43,6 +58,12 @@ public final class GameConfig {
     public static final double MAP_TOP_MARGIN = 40.0;
     
     
+    public static final double MIN_TILE_SIZE = 40.0;
+    
+    
+    public static final int CAMERA_MARGIN_TILES = 1;
+    
+    
     public static final double FIXED_LOG_X = 20.0;
     
     
@@ -53,6 +74,27 @@ public final class GameConfig {
     
     
     public static final double MOVE_SPEED = 0.3;
+    
+    
+    public static final long ORDER_PANEL_REFRESH_MS = 100;
+    
+    
+    public static final boolean ADAPTIVE_QUALITY = true;
+    
+    
+    public static final double TARGET_FRAME_MS = 1000.0 / 60.0;
+    
+    
+    public static final double QUALITY_MISS_RATIO = 1.25;
+    
+    
+    public static final double QUALITY_HEADROOM_RATIO = 0.5;
+    
+    
+    public static final int QUALITY_DOWNGRADE_FRAMES = 45;
+    
+    
+    public static final int QUALITY_UPGRADE_FRAMES = 300;
 
     
 
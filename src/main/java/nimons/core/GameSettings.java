@@ -32,11 +32,25 @@ public class GameSettings {
     }
     
     private Difficulty currentDifficulty;
+    private long orderSpawnIntervalMs = GameConfig.ORDER_SPAWN_INTERVAL_MS;
+    private int boilingPotCapacity = GameConfig.BOILING_POT_CAPACITY;
+    private int fryingPanCapacity = GameConfig.FRYING_PAN_CAPACITY;
     
-    private GameSettings() {
+    public GameSettings() {
         this.currentDifficulty = Difficulty.NORMAL; 
     }
     
+    public GameSettings(Difficulty difficulty) {
+        this.currentDifficulty = difficulty;
+    }
+    
+    public GameSettings(GameSettings other) {
+        this.currentDifficulty = other.currentDifficulty;
+        this.orderSpawnIntervalMs = other.orderSpawnIntervalMs;
+        this.boilingPotCapacity = other.boilingPotCapacity;
+        this.fryingPanCapacity = other.fryingPanCapacity;
+    }
+    
     public static GameSettings getInstance() {
         if (instance == null) {
             instance = new GameSettings();
@@ -61,4 +75,28 @@ public class GameSettings {
     public boolean isUnlimitedLives() {
         return currentDifficulty.isUnlimitedLives();
     }
+    
+    public long getOrderSpawnIntervalMs() {
+        return orderSpawnIntervalMs;
+    }
+    
+    public void setOrderSpawnIntervalMs(long orderSpawnIntervalMs) {
+        this.orderSpawnIntervalMs = orderSpawnIntervalMs;
+    }
+    
+    public int getBoilingPotCapacity() {
+        return boilingPotCapacity;
+    }
+    
+    public void setBoilingPotCapacity(int boilingPotCapacity) {
+        this.boilingPotCapacity = boilingPotCapacity;
+    }
+    
+    public int getFryingPanCapacity() {
+        return fryingPanCapacity;
+    }
+    
+    public void setFryingPanCapacity(int fryingPanCapacity) {
+        this.fryingPanCapacity = fryingPanCapacity;
+    }
 }
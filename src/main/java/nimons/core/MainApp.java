@@ -4,9 +4,6 @@ import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import nimons.gui.MainMenuScene;
-import javafx.scene.text.Font;
-import java.io.InputStream;
-import nimons.core.GameConfig;
 
 public class MainApp extends Application {
 
@@ -16,25 +13,9 @@ public class MainApp extends Application {
         primaryStage.setWidth(1200);
         primaryStage.setHeight(800);
         
-        try {
-            String[] candidates = new String[] {
-                "/assets/fonts/PixelifySans.ttf",
-                "/assets/fonts/PixelifySans-Regular.ttf",
-                "/assets/fonts/Pixelify_Sans.ttf",
-                "/assets/fonts/Pixelify Sans.ttf"
-            };
-            for (String c : candidates) {
-                InputStream is = getClass().getResourceAsStream(c);
-                if (is != null) {
-                    Font loaded = Font.loadFont(is, 12);
-                    System.out.println("Loaded custom font from: " + c + " -> family=" + (loaded != null ? loaded.getFamily() : "null"));
-                    is.close();
-                    break;
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to load custom font: " + e.getMessage());
-        }
+        AssetRegistry assets = AssetRegistry.getInstance();
+        assets.preloadAll();
+        assets.awaitFonts();
 
         MainMenuScene menu = new MainMenuScene(primaryStage);
         Scene scene = new Scene(menu.rootPane);
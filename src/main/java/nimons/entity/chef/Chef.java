@@ -13,11 +13,18 @@ public class Chef {
     private Item inventory;
     private ChefAction currentAction;
     private boolean busy;
+    private int entityId = -1;
     
     
     private boolean isDashing;
     private long lastDashTime;
     
+    
+    private double renderX;
+    private double renderY;
+    private double prevRenderX;
+    private double prevRenderY;
+    
     private static final long NANOSECONDS_TO_MS = 1_000_000;
 
     public Chef() {
@@ -32,6 +39,8 @@ public class Chef {
         this.direction = direction;
         this.isDashing = false;
         this.lastDashTime = 0;
+        this.currentAction = ChefAction.IDLE;
+        snapRenderPosition();
     }
 
     
@@ -47,6 +56,14 @@ public class Chef {
         return name; 
     }
 
+    public int getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(int entityId) {
+        this.entityId = entityId;
+    }
+
     public void setName(String name) { 
         this.name = name; 
         }
@@ -84,6 +101,55 @@ public class Chef {
     }
 
         
+    public void snapRenderPosition() {
+        if (position == null) {
+            return;
+        }
+        renderX = position.getX();
+        renderY = position.getY();
+        prevRenderX = renderX;
+        prevRenderY = renderY;
+    }
+    
+        
+    public void beginTick() {
+        prevRenderX = renderX;
+        prevRenderY = renderY;
+    }
+    
+        
+    public void easeTowardsPosition(double speed) {
+        double dx = position.getX() - renderX;
+        double dy = position.getY() - renderY;
+        
+        if (Math.abs(dx) > 0.01 || Math.abs(dy) > 0.01) {
+            renderX += dx * speed;
+            renderY += dy * speed;
+            currentAction = ChefAction.MOVING;
+        } else {
+            renderX = position.getX();
+            renderY = position.getY();
+            if (currentAction == ChefAction.MOVING) {
+                currentAction = ChefAction.IDLE;
+            }
+        }
+    }
+    
+        
+    public double getInterpolatedRenderX(double alpha) {
+        return prevRenderX + (renderX - prevRenderX) * alpha;
+    }
+    
+    public double getInterpolatedRenderY(double alpha) {
+        return prevRenderY + (renderY - prevRenderY) * alpha;
+    }
+    
+        
+    public boolean isMoving() {
+        return currentAction == ChefAction.MOVING;
+    }
+
+        
     public boolean isBusy() { 
         return busy; 
     }
@@ -223,4 +289,54 @@ public class Chef {
         long remaining = GameConfig.DASH_COOLDOWN_MS - timeSinceLastDash;
         return remaining > 0 ? remaining : 0;
     }
+    
+    
+    public Object createMemento() {
+        return new Memento(this, inventory != null ? inventory.copy() : null);
+    }
+    
+    
+    public void restoreMemento(Object memento) {
+        Memento m = (Memento) memento;
+        this.position = m.position;
+        this.direction = m.direction;
+        this.inventory = m.inventory != null ? m.inventory.copy() : null;
+        this.currentAction = m.currentAction;
+        this.busy = m.busy;
+        this.isDashing = m.isDashing;
+        this.lastDashTime = m.lastDashTime;
+        this.renderX = m.renderX;
+        this.renderY = m.renderY;
+        this.prevRenderX = m.prevRenderX;
+        this.prevRenderY = m.prevRenderY;
+    }
+    
+    
+    private static final class Memento {
+        final Position position;
+        final Direction direction;
+        final Item inventory;
+        final ChefAction currentAction;
+        final boolean busy;
+        final boolean isDashing;
+        final long lastDashTime;
+        final double renderX;
+        final double renderY;
+        final double prevRenderX;
+        final double prevRenderY;
+        
+        Memento(Chef chef, Item inventory) {
+            this.position = chef.position;
+            this.direction = chef.direction;
+            this.inventory = inventory;
+            this.currentAction = chef.currentAction;
+            this.busy = chef.busy;
+            this.isDashing = chef.isDashing;
+            this.lastDashTime = chef.lastDashTime;
+            this.renderX = chef.renderX;
+            this.renderY = chef.renderY;
+            this.prevRenderX = chef.prevRenderX;
+            this.prevRenderY = chef.prevRenderY;
+        }
+    }
 }
@@ -117,4 +117,9 @@ public class BoilingPot extends KitchenUtensil implements CookingDevice {
             getContents().clear();
         }
     }
+    
+    @Override
+    public BoilingPot copy() {
+        return copyItemFieldsTo(new BoilingPot(getId(), capacity, copyContents()));
+    }
 }
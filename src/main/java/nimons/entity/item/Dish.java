@@ -1,5 +1,6 @@
 package nimons.entity.item;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import nimons.entity.item.interfaces.Preparable;
@@ -71,4 +72,16 @@ public class Dish extends Item {
     public boolean isComplete() {
         return components != null && !components.isEmpty();
     }
-}
\ No newline at end of file
+    
+    @Override
+    public Dish copy() {
+        List<Preparable> copies = null;
+        if (components != null) {
+            copies = new ArrayList<>(components.size());
+            for (Preparable component : components) {
+                copies.add(copyPreparable(component));
+            }
+        }
+        return copyItemFieldsTo(new Dish(getId(), getName(), copies));
+    }
+}
@@ -115,4 +115,9 @@ public class FryingPan extends KitchenUtensil implements CookingDevice {
             getContents().clear();
         }
     }
+    
+    @Override
+    public FryingPan copy() {
+        return copyItemFieldsTo(new FryingPan(getId(), capacity, copyContents()));
+    }
 }
@@ -108,6 +108,19 @@ public abstract class Ingredient extends Item implements Preparable {
     }
 
     
+    @Override
+    public abstract Ingredient copy();
+    
+    
+    protected <T extends Ingredient> T copyIngredientTo(T target) {
+        copyItemFieldsTo(target);
+        target.setState(state);
+        target.currentCookTime = currentCookTime;
+        target.lastLogTime = lastLogTime;
+        return target;
+    }
+
+    
     @Override
     public abstract boolean canBeChopped();
 
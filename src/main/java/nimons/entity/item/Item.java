@@ -1,5 +1,7 @@
 package nimons.entity.item;
 
+import nimons.entity.item.interfaces.Preparable;
+
 public abstract class Item {
 
     private String id;
@@ -39,4 +41,21 @@ public abstract class Item {
     public void setPortable(boolean portable) { 
         this.portable = portable; 
     }
+    
+    
+    public abstract Item copy();
+    
+    
+    protected <T extends Item> T copyItemFieldsTo(T target) {
+        Item item = target;
+        item.id = id;
+        item.name = name;
+        item.portable = portable;
+        return target;
+    }
+    
+    
+    protected static Preparable copyPreparable(Preparable preparable) {
+        return preparable instanceof Item ? (Preparable) ((Item) preparable).copy() : preparable;
+    }
 }
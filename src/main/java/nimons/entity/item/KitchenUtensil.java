@@ -1,5 +1,6 @@
 package nimons.entity.item;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import nimons.entity.item.interfaces.Preparable;
@@ -28,4 +29,20 @@ public abstract class KitchenUtensil extends Item {
     public int getCapacity() {
         return Integer.MAX_VALUE; 
     }
+    
+    
+    @Override
+    public abstract KitchenUtensil copy();
+    
+    
+    protected Set<Preparable> copyContents() {
+        if (contents == null) {
+            return null;
+        }
+        Set<Preparable> copies = new HashSet<>();
+        for (Preparable preparable : contents) {
+            copies.add(copyPreparable(preparable));
+        }
+        return copies;
+    }
 }
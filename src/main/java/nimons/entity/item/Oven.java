@@ -85,4 +85,9 @@ public class Oven extends KitchenUtensil implements CookingDevice {
             getContents().clear();
         }
     }
+    
+    @Override
+    public Oven copy() {
+        return copyItemFieldsTo(new Oven(getId(), capacity, copyContents()));
+    }
 }
@@ -69,4 +69,9 @@ public class Plate extends KitchenUtensil {
         this.clean = false;
         return removedDish;
     }
+    
+    @Override
+    public Plate copy() {
+        return copyItemFieldsTo(new Plate(getId(), clean, dish != null ? dish.copy() : null));
+    }
 }
@@ -40,4 +40,9 @@ public class Cucumber extends Ingredient {
     public void cook() {
         
     }
+    
+    @Override
+    public Cucumber copy() {
+        return copyIngredientTo(new Cucumber());
+    }
 }
@@ -45,4 +45,9 @@ public class Fish extends Ingredient {
         } 
         
     }
-}
\ No newline at end of file
+    
+    @Override
+    public Fish copy() {
+        return copyIngredientTo(new Fish());
+    }
+}
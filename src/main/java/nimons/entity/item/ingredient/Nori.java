@@ -38,4 +38,9 @@ public class Nori extends Ingredient {
     public void cook() {
         
     }
+    
+    @Override
+    public Nori copy() {
+        return copyIngredientTo(new Nori());
+    }
 }
@@ -42,4 +42,9 @@ public class Rice extends Ingredient {
                 
             } 
         }
-}
\ No newline at end of file
+    
+    @Override
+    public Rice copy() {
+        return copyIngredientTo(new Rice());
+    }
+}
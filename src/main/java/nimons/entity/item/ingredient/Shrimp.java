@@ -46,4 +46,9 @@ public class Shrimp extends Ingredient {
         } 
         
     }
+    
+    @Override
+    public Shrimp copy() {
+        return copyIngredientTo(new Shrimp());
+    }
 }
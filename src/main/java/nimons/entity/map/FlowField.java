@@ -0,0 +1,50 @@
+package nimons.entity.map;
+
+public class FlowField {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int targetX;
+    private final int targetY;
+    private final int width;
+    private final int height;
+    private final int[] distances;
+
+    FlowField(int targetX, int targetY, int width, int height, int[] distances) {
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.width = width;
+        this.height = height;
+        this.distances = distances;
+    }
+
+
+    public int getDistance(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return UNREACHABLE;
+        }
+        return distances[y * width + x];
+    }
+
+
+    public boolean isReachable(int x, int y) {
+        return getDistance(x, y) != UNREACHABLE;
+    }
+
+
+    boolean touches(int x, int y) {
+        if (Math.abs(x - targetX) + Math.abs(y - targetY) <= 1) {
+            return true;
+        }
+        return isReachable(x, y) || isReachable(x, y - 1) || isReachable(x, y + 1)
+            || isReachable(x - 1, y) || isReachable(x + 1, y);
+    }
+
+    public int getTargetX() {
+        return targetX;
+    }
+
+    public int getTargetY() {
+        return targetY;
+    }
+}
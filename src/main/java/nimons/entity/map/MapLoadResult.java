@@ -8,10 +8,12 @@ public class MapLoadResult {
 
     private TileManager tileManager;
     private List<Position> spawnPositions;
+    private StationRegistry stationRegistry;
 
-    public MapLoadResult(TileManager tileManager, List<Position> spawnPositions) {
+    public MapLoadResult(TileManager tileManager, List<Position> spawnPositions, StationRegistry stationRegistry) {
         this.tileManager = tileManager;
         this.spawnPositions = spawnPositions;
+        this.stationRegistry = stationRegistry;
     }
 
     public TileManager getTileManager() {
@@ -29,4 +31,12 @@ public class MapLoadResult {
     public void setSpawnPositions(List<Position> spawnPositions) {
         this.spawnPositions = spawnPositions;
     }
+
+    public StationRegistry getStationRegistry() {
+        return stationRegistry;
+    }
+
+    public void setStationRegistry(StationRegistry stationRegistry) {
+        this.stationRegistry = stationRegistry;
+    }
 }
@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import nimons.entity.common.Position;
 import nimons.entity.station.AssemblyStation; 
@@ -21,6 +22,16 @@ import nimons.entity.station.WashingStation;
 
 public class MapLoader {
 
+    private final Consumer<String> console;
+
+    public MapLoader() {
+        this(System.out::println);
+    }
+
+    public MapLoader(Consumer<String> console) {
+        this.console = console;
+    }
+
     
         
     public MapLoadResult load(String stageId) {
@@ -56,8 +67,7 @@ public class MapLoader {
         
         
         
-        List<WashingStation> washingStations = new ArrayList<>();
-        List<Rack> racks = new ArrayList<>();
+        StationRegistry stations = new StationRegistry(width, height);
         
         
         
@@ -101,14 +111,10 @@ public class MapLoader {
                         break;
                     
                     case 'W':
-                        WashingStation ws = new WashingStation("Washing Station", pos);
-                        washingStations.add(ws);
-                        station = ws;
+                        station = new WashingStation("Washing Station", pos);
                         break;
                     case 'K':
-                        Rack rack = new Rack("Rack", pos);
-                        racks.add(rack);
-                        station = rack;
+                        station = new Rack("Rack", pos);
                         break;
                     case 'I':
                         station = new IngredientStorageStation("Ingredient Storage", pos);
@@ -125,6 +131,7 @@ public class MapLoader {
 
                 if (station != null) {
                     tile.setStation(station);
+                    stations.register(station);
                 }
 
                 tiles[y][x] = tile;
@@ -135,15 +142,13 @@ public class MapLoader {
         
         
         
-        if (!washingStations.isEmpty() && !racks.isEmpty()) {
-            
-            
-            WashingStation sink = washingStations.get(0);
-            Rack outputRack = racks.get(0);
+        WashingStation sink = stations.getFirst(WashingStation.class);
+        Rack outputRack = stations.getFirst(Rack.class);
+        if (sink != null && outputRack != null) {
             
             sink.setOutputRack(outputRack);
             
-            System.out.println("MapLoader: WashingStation linked to Rack at " + outputRack.getPosition());
+            console.accept("MapLoader: WashingStation linked to Rack at " + outputRack.getPosition());
         }
         
 
@@ -154,7 +159,7 @@ public class MapLoader {
         
         
 
-        return new MapLoadResult(tileManager, spawnPositions);
+        return new MapLoadResult(tileManager, spawnPositions, stations);
     }
 
         
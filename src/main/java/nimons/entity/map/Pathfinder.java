@@ -0,0 +1,229 @@
+package nimons.entity.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import nimons.entity.chef.Direction;
+import nimons.entity.common.Position;
+import nimons.entity.station.Station;
+
+public class Pathfinder {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final TileManager tileManager;
+    private final Map<Integer, FlowField> flowFields = new HashMap<>();
+    private final PriorityQueue<Long> open = new PriorityQueue<>();
+    private int[] costs = new int[0];
+    private int[] parents = new int[0];
+    private int[] visited = new int[0];
+    private int searchId = 0;
+
+    Pathfinder(TileManager tileManager) {
+        this.tileManager = tileManager;
+    }
+
+
+    public List<Position> findPath(Position from, Position target) {
+        int width = tileManager.getWidth();
+        int height = tileManager.getHeight();
+        if (!tileManager.isInBounds(from) || !tileManager.isInBounds(target)) {
+            return null;
+        }
+
+        int start = from.getY() * width + from.getX();
+        int tx = target.getX();
+        int ty = target.getY();
+        boolean adjacentGoal = (from.getX() != tx || from.getY() != ty) && !tileManager.isWalkable(tx, ty);
+        prepareSearch(width * height);
+
+
+        open.clear();
+        costs[start] = 0;
+        parents[start] = -1;
+        visited[start] = searchId;
+        open.add(entry(heuristic(from.getX(), from.getY(), tx, ty, adjacentGoal), start));
+        while (!open.isEmpty()) {
+            long top = open.poll();
+            int index = (int) top;
+            int x = index % width;
+            int y = index / width;
+            int cost = costs[index];
+            if ((int) (top >>> 32) > cost + heuristic(x, y, tx, ty, adjacentGoal)) {
+                continue;
+            }
+            if (isGoal(x, y, tx, ty, adjacentGoal)) {
+                return buildPath(index, start, width);
+            }
+
+            for (Direction direction : DIRECTIONS) {
+                int nx = x + direction.getDx();
+                int ny = y + direction.getDy();
+                if (!tileManager.isWalkable(nx, ny)) continue;
+
+                int next = ny * width + nx;
+                if (visited[next] == searchId && costs[next] <= cost + 1) continue;
+                visited[next] = searchId;
+                costs[next] = cost + 1;
+                parents[next] = index;
+                open.add(entry(cost + 1 + heuristic(nx, ny, tx, ty, adjacentGoal), next));
+            }
+        }
+        return null;
+    }
+
+
+    public FlowField getFlowField(Position target) {
+        int width = tileManager.getWidth();
+        int key = target.getY() * width + target.getX();
+        FlowField field = flowFields.get(key);
+        if (field == null) {
+            field = buildFlowField(target.getX(), target.getY());
+            flowFields.put(key, field);
+        }
+        return field;
+    }
+
+
+    public FlowField getFlowField(Station station) {
+        return getFlowField(station.getPosition());
+    }
+
+
+    public int getDistance(Position from, Position target) {
+        return getFlowField(target).getDistance(from.getX(), from.getY());
+    }
+
+
+    public Direction nextStep(Position from, Position target) {
+        FlowField field = getFlowField(target);
+        int distance = field.getDistance(from.getX(), from.getY());
+        if (distance == 0 || distance == FlowField.UNREACHABLE) {
+            return null;
+        }
+
+        for (Direction direction : DIRECTIONS) {
+            int nx = from.getX() + direction.getDx();
+            int ny = from.getY() + direction.getDy();
+            if (field.getDistance(nx, ny) < distance && !tileManager.hasChefAt(nx, ny)) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+
+    private FlowField buildFlowField(int tx, int ty) {
+        int width = tileManager.getWidth();
+        int height = tileManager.getHeight();
+        int[] distances = new int[width * height];
+        Arrays.fill(distances, FlowField.UNREACHABLE);
+        int[] queue = new int[width * height];
+        int head = 0;
+        int tail = 0;
+
+        if (isPassable(tx, ty)) {
+            distances[ty * width + tx] = 0;
+            queue[tail++] = ty * width + tx;
+        } else {
+            for (Direction direction : DIRECTIONS) {
+                int nx = tx + direction.getDx();
+                int ny = ty + direction.getDy();
+                if (isPassable(nx, ny) && distances[ny * width + nx] != 0) {
+                    distances[ny * width + nx] = 0;
+                    queue[tail++] = ny * width + nx;
+                }
+            }
+        }
+
+
+        while (head < tail) {
+            int index = queue[head++];
+            int x = index % width;
+            int y = index / width;
+            for (Direction direction : DIRECTIONS) {
+                int nx = x + direction.getDx();
+                int ny = y + direction.getDy();
+                if (!isPassable(nx, ny)) continue;
+
+                int next = ny * width + nx;
+                if (distances[next] == FlowField.UNREACHABLE) {
+                    distances[next] = distances[index] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return new FlowField(tx, ty, width, height, distances);
+    }
+
+
+    void onTileChanged(int x, int y) {
+        Iterator<FlowField> fields = flowFields.values().iterator();
+        while (fields.hasNext()) {
+            if (fields.next().touches(x, y)) {
+                fields.remove();
+            }
+        }
+    }
+
+
+    void invalidateAll() {
+        flowFields.clear();
+    }
+
+
+    private boolean isPassable(int x, int y) {
+        return !tileManager.isStaticBlocked(x, y) && !tileManager.hasItemAt(x, y);
+    }
+
+
+    private void prepareSearch(int size) {
+        if (visited.length != size) {
+            costs = new int[size];
+            parents = new int[size];
+            visited = new int[size];
+            searchId = 0;
+        }
+        if (++searchId == 0) {
+            Arrays.fill(visited, 0);
+            searchId = 1;
+        }
+    }
+
+
+    private List<Position> buildPath(int goal, int start, int width) {
+        List<Position> path = new ArrayList<>();
+        for (int index = goal; index != start; index = parents[index]) {
+            path.add(new Position(index % width, index / width));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+
+    private static boolean isGoal(int x, int y, int tx, int ty, boolean adjacentGoal) {
+        int distance = Math.abs(x - tx) + Math.abs(y - ty);
+        return adjacentGoal ? distance == 1 : distance == 0;
+    }
+
+
+    private static int heuristic(int x, int y, int tx, int ty, boolean adjacentGoal) {
+        int distance = Math.abs(x - tx) + Math.abs(y - ty);
+        return adjacentGoal ? Math.max(0, distance - 1) : distance;
+    }
+
+
+    private static long entry(int priority, int index) {
+        return ((long) priority << 32) | index;
+    }
+
+    public int getCachedFieldCount() {
+        return flowFields.size();
+    }
+}
@@ -0,0 +1,117 @@
+package nimons.entity.map;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nimons.entity.common.Position;
+import nimons.entity.station.Station;
+
+public class StationRegistry {
+
+    private final int width;
+    private final int height;
+    private final Station[] grid;
+    private final List<Station> stations = new ArrayList<>();
+    private final Map<Class<?>, List<Station>> byType = new HashMap<>();
+    private final Map<Integer, Station> byId = new HashMap<>();
+
+    public StationRegistry(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.grid = new Station[width * height];
+    }
+
+
+    public void register(Station station) {
+        Position pos = station.getPosition();
+        if (pos == null || pos.getX() < 0 || pos.getX() >= width || pos.getY() < 0 || pos.getY() >= height) {
+            throw new IllegalArgumentException("Station " + station.getName() + " is outside the map");
+        }
+        int index = pos.getY() * width + pos.getX();
+        if (grid[index] != null) {
+            throw new IllegalStateException("Tile (" + pos.getX() + ", " + pos.getY() + ") already has a station");
+        }
+
+        grid[index] = station;
+        stations.add(station);
+        for (Class<?> type = station.getClass(); type != null && Station.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            byType.computeIfAbsent(type, t -> new ArrayList<>()).add(station);
+        }
+    }
+
+
+    public void indexIds() {
+        byId.clear();
+        for (Station station : stations) {
+            if (station.getEntityId() >= 0) {
+                byId.put(station.getEntityId(), station);
+            }
+        }
+    }
+
+
+    public Station getAt(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return null;
+        }
+        return grid[y * width + x];
+    }
+
+
+    public Station getById(int entityId) {
+        return byId.get(entityId);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    public <T extends Station> List<T> getAll(Class<T> type) {
+        List<Station> matches = byType.get(type);
+        return matches != null ? (List<T>) Collections.unmodifiableList(matches) : Collections.emptyList();
+    }
+
+
+    public <T extends Station> T getFirst(Class<T> type) {
+        List<T> matches = getAll(type);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+
+    public <T extends Station> T getNearest(Class<T> type, Position from) {
+        T nearest = null;
+        int best = Integer.MAX_VALUE;
+        for (T station : getAll(type)) {
+            Position pos = station.getPosition();
+            int distance = Math.abs(pos.getX() - from.getX()) + Math.abs(pos.getY() - from.getY());
+            if (distance < best) {
+                best = distance;
+                nearest = station;
+            }
+        }
+        return nearest;
+    }
+
+
+    public <T extends Station> T getNearestReachable(Class<T> type, Position from, Pathfinder pathfinder) {
+        T nearest = null;
+        int best = FlowField.UNREACHABLE;
+        for (T station : getAll(type)) {
+            int distance = pathfinder.getDistance(from, station.getPosition());
+            if (distance < best) {
+                best = distance;
+                nearest = station;
+            }
+        }
+        return nearest;
+    }
+
+    public List<Station> getAll() {
+        return Collections.unmodifiableList(stations);
+    }
+
+    public int size() {
+        return stations.size();
+    }
+}
@@ -12,6 +12,7 @@ public class Tile {
     private Item itemOnTile;
     private Chef chefOnTile;
     private boolean wall;
+    private TileManager owner;
 
     public Tile() {}
 
@@ -35,6 +36,7 @@ public class Tile {
 
     public void setStation(Station station) {
         this.station = station;
+        updateOccupancy();
     }
 
     public Item getItemOnTile() {
@@ -42,7 +44,11 @@ public class Tile {
     }
 
     public void setItemOnTile(Item itemOnTile) {
+        if (this.itemOnTile != itemOnTile) {
+            markDirty();
+        }
         this.itemOnTile = itemOnTile;
+        updateOccupancy();
     }
 
     public Chef getChefOnTile() {
@@ -50,7 +56,11 @@ public class Tile {
     }
 
     public void setChefOnTile(Chef chefOnTile) {
+        if (this.chefOnTile != chefOnTile) {
+            markDirty();
+        }
         this.chefOnTile = chefOnTile;
+        updateOccupancy();
     }
 
         
@@ -60,6 +70,27 @@ public class Tile {
 
     public void setWall(boolean wall) {
         this.wall = wall;
+        updateOccupancy();
+    }
+
+    
+    
+    void attach(TileManager owner) {
+        this.owner = owner;
+    }
+    
+    
+    public void markDirty() {
+        if (owner != null && position != null) {
+            owner.markDirty(position.getX(), position.getY());
+        }
+    }
+    
+    
+    private void updateOccupancy() {
+        if (owner != null) {
+            owner.updateOccupancy(this);
+        }
     }
 
     
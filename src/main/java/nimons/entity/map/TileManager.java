@@ -1,5 +1,6 @@
 package nimons.entity.map;
 
+import java.util.BitSet;
 import java.util.List;
 
 import nimons.entity.common.Position;
@@ -11,6 +12,13 @@ public class TileManager {
     private int width;
     private int height;
     private Tile[][] tiles;
+    private final BitSet dirtyTiles = new BitSet();
+    private final BitSet progressTiles = new BitSet();
+    private final BitSet staticBlocked = new BitSet();
+    private final BitSet itemTiles = new BitSet();
+    private final BitSet chefTiles = new BitSet();
+    private final BitSet blockedTiles = new BitSet();
+    private final Pathfinder pathfinder = new Pathfinder(this);
 
     public TileManager() {}
 
@@ -18,6 +26,7 @@ public class TileManager {
         this.width = width;
         this.height = height;
         this.tiles = tiles;
+        attachTiles();
     }
 
     
@@ -43,6 +52,97 @@ public class TileManager {
 
     public void setTiles(Tile[][] tiles) {
         this.tiles = tiles;
+        attachTiles();
+    }
+    
+    
+    private void attachTiles() {
+        staticBlocked.clear();
+        itemTiles.clear();
+        chefTiles.clear();
+        blockedTiles.clear();
+        pathfinder.invalidateAll();
+        if (tiles == null) {
+            return;
+        }
+        
+        blockedTiles.set(0, width * height);
+        for (Tile[] row : tiles) {
+            for (Tile tile : row) {
+                if (tile != null) {
+                    tile.attach(this);
+                    updateOccupancy(tile);
+                }
+            }
+        }
+        markAllDirty();
+    }
+    
+    
+        
+    void updateOccupancy(Tile tile) {
+        Position pos = tile.getPosition();
+        if (pos == null || pos.getX() < 0 || pos.getX() >= width || pos.getY() < 0 || pos.getY() >= height) {
+            return;
+        }
+        
+        int index = pos.getY() * width + pos.getX();
+        boolean blocksStatic = tile.isWall() || tile.getStation() != null;
+        boolean hasItem = tile.getItemOnTile() != null;
+        if (blocksStatic != staticBlocked.get(index)) {
+            pathfinder.invalidateAll();
+        } else if (hasItem != itemTiles.get(index)) {
+            pathfinder.onTileChanged(pos.getX(), pos.getY());
+        }
+        
+        staticBlocked.set(index, blocksStatic);
+        itemTiles.set(index, hasItem);
+        chefTiles.set(index, tile.getChefOnTile() != null);
+        blockedTiles.set(index, blocksStatic || hasItem || chefTiles.get(index));
+    }
+    
+    
+    public void markDirty(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            dirtyTiles.set(y * width + x);
+        }
+    }
+    
+    
+    public void markDirty(Position pos) {
+        markDirty(pos.getX(), pos.getY());
+    }
+    
+    
+        
+    public void markProgressDirty(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            progressTiles.set(y * width + x);
+        }
+    }
+    
+    
+    public void markAllDirty() {
+        dirtyTiles.set(0, width * height);
+    }
+    
+    
+    public boolean hasDirtyTiles() {
+        return !dirtyTiles.isEmpty() || !progressTiles.isEmpty();
+    }
+    
+    
+        
+    public void drainDirtyTiles(BitSet target) {
+        target.or(dirtyTiles);
+        dirtyTiles.clear();
+    }
+    
+    
+        
+    public void drainProgressTiles(BitSet target) {
+        target.or(progressTiles);
+        progressTiles.clear();
     }
 
     
@@ -63,11 +163,33 @@ public class TileManager {
     
         
     public boolean isWalkable(Position pos) {
-        if (!isInBounds(pos)) {
-            return false;
-        }
-        Tile tile = getTileAt(pos);
-        return tile != null && tile.isWalkable();
+        return isWalkable(pos.getX(), pos.getY());
+    }
+    
+    
+    public boolean isWalkable(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height && !blockedTiles.get(y * width + x);
+    }
+    
+    
+        
+    public boolean isStaticBlocked(int x, int y) {
+        return x < 0 || x >= width || y < 0 || y >= height || staticBlocked.get(y * width + x);
+    }
+    
+    
+    public boolean hasItemAt(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height && itemTiles.get(y * width + x);
+    }
+    
+    
+    public boolean hasChefAt(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height && chefTiles.get(y * width + x);
+    }
+
+    
+    public Pathfinder getPathfinder() {
+        return pathfinder;
     }
 
     
@@ -116,4 +116,13 @@ public class Order {
     public boolean isFullyFaded() {
         return isFadingOut && opacity <= 0.0f;
     }
+    
+    
+    public Order copy() {
+        Order copy = new Order(index, recipe, reward, penalty, timeLimitSeconds, remainingTimeSeconds, status);
+        copy.opacity = opacity;
+        copy.isFadingIn = isFadingIn;
+        copy.isFadingOut = isFadingOut;
+        return copy;
+    }
 }
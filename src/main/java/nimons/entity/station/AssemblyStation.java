@@ -204,4 +204,16 @@ public class AssemblyStation extends Station {
     }
     
     public Item getPlacedItem() { return placedItem; }
-}
\ No newline at end of file
+    
+    
+    @Override
+    public Object createMemento() {
+        return copyItem(placedItem);
+    }
+    
+    
+    @Override
+    public void restoreMemento(Object memento) {
+        placedItem = copyItem((Item) memento);
+    }
+}
@@ -3,7 +3,6 @@ package nimons.entity.station;
 import java.util.ArrayList;
 import java.util.List;
 
-import nimons.core.SoundManager;
 import nimons.entity.chef.Chef;
 import nimons.entity.common.Position;
 import nimons.entity.item.BoilingPot;
@@ -22,7 +21,7 @@ import nimons.exceptions.StationFullException;
 public class CookingStation extends Station {
 
     private KitchenUtensil utensils;
-    private long lastCookingSound = 0;  
+    private long lastCookingSound = -500;  
 
     public CookingStation(String name, Position position) {
         super(name, position);
@@ -82,13 +81,13 @@ public class CookingStation extends Station {
             
             
             if (isAnyIngredientCooking) {
-                long currentTime = System.currentTimeMillis();
+                long currentTime = currentTimeMs();
                 if (currentTime - lastCookingSound >= 500) {
                     
                     if (utensils instanceof FryingPan) {
-                        SoundManager.getInstance().playSoundEffect("frying");
+                        playSound("frying");
                     } else if (utensils instanceof BoilingPot) {
-                        SoundManager.getInstance().playSoundEffect("boiling");
+                        playSound("boiling");
                     }
                     lastCookingSound = currentTime;
                 }
@@ -99,6 +98,12 @@ public class CookingStation extends Station {
     
 
     
+    @Override
+    public boolean isIdle() {
+        return !(utensils instanceof CookingDevice) || utensils.getContents() == null || utensils.getContents().isEmpty();
+    }
+    
+    
     @Override
     public float getProgressRatio() {
         if (utensils == null || utensils.getContents().isEmpty()) {
@@ -147,8 +152,14 @@ public class CookingStation extends Station {
 
     
     @Override
-        
     public void onInteract(Chef chef) {
+        handleInteract(chef);
+        setWorking(!isIdle());
+    }
+    
+    
+        
+    private void handleInteract(Chef chef) {
         if (chef == null) return;
         Item itemHand = chef.getInventory();
 
@@ -222,7 +233,7 @@ public class CookingStation extends Station {
                     log("SUCCESS", "START COOKING: " + ingredientName + " placed into " + utensils.getName() + ".");
                     
                     
-                    SoundManager.getInstance().playSoundEffect("frying");
+                    playSound("frying");
                     
                 } catch (StationFullException e) {
                     log("FAIL", "✗ " + e.getMessage());
@@ -259,4 +270,29 @@ public class CookingStation extends Station {
             log("INFO", "Station spot is empty. Chef can place Utensil.");
         }
     }
-}
\ No newline at end of file
+    
+    
+    @Override
+    public Object createMemento() {
+        return new Memento(utensils != null ? utensils.copy() : null, lastCookingSound);
+    }
+    
+    
+    @Override
+    public void restoreMemento(Object memento) {
+        Memento m = (Memento) memento;
+        this.utensils = m.utensils != null ? m.utensils.copy() : null;
+        this.lastCookingSound = m.lastCookingSound;
+    }
+    
+    
+    private static final class Memento {
+        final KitchenUtensil utensils;
+        final long lastCookingSound;
+        
+        Memento(KitchenUtensil utensils, long lastCookingSound) {
+            this.utensils = utensils;
+            this.lastCookingSound = lastCookingSound;
+        }
+    }
+}
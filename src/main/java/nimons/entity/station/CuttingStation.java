@@ -1,7 +1,6 @@
 package nimons.entity.station;
 
 import nimons.core.GameConfig;
-import nimons.core.SoundManager;
 import nimons.entity.chef.Chef;
 import nimons.entity.common.Position;
 import nimons.entity.item.Item;
@@ -11,11 +10,8 @@ import nimons.entity.item.interfaces.Preparable;
 
 public class CuttingStation extends Station {
 
-    private static CuttingStation activeStation; 
     private Item placedItem; 
-    private float currentProgress = 0;
-    private Chef currentCutter;
-    private long lastChoppingSound = 0; 
+    private long lastChoppingSound = -3000; 
 
     public CuttingStation(String name, Position position) {
         super(name, position);
@@ -27,34 +23,17 @@ public class CuttingStation extends Station {
     
     @Override
         
-    public void update(long deltaTime) {
-        
-        if ((activeStation == null || this == activeStation) && currentCutter != null && currentCutter.isBusy() && placedItem instanceof Preparable) {
-            Preparable p = (Preparable) placedItem;
-            
-            
-            if (p.canBeChopped()) {
-                currentProgress += deltaTime;
-            } else {
-                
-                finishCutting();
-                return;
-            }
-
-            if (currentProgress >= GameConfig.CUTTING_REQUIRED_TIME_MS) {
-                
-                p.chop();
-                
-                
-                finishCutting();
-            }
+    public void onWorkComplete() {
+        if (placedItem instanceof Preparable && ((Preparable) placedItem).canBeChopped()) {
+            ((Preparable) placedItem).chop();
         }
-        
+        finishCutting();
     }
     
     
         
     private void finishCutting() {
+        Chef currentCutter = getOperator();
         if (currentCutter != null) {
             
             log("SUCCESS", "CUTTING COMPLETE: " + placedItem.getName() + " finished chopping.");
@@ -63,27 +42,31 @@ public class CuttingStation extends Station {
             
             log("INFO", "CUTTING STOPPED: Item reached final state.");
         }
-        if (activeStation == this) {
-            activeStation = null;
+        if (getActiveStation() == this) {
+            setActiveStation(null);
         }
-        currentCutter = null;
-        currentProgress = 0; 
+        setOperator(null);
+        setWorking(false);
+        setWorkProgress(0); 
     }
     
     
         
     private void resetProgress() {
+        Chef currentCutter = getOperator();
         if (currentCutter != null) {
             currentCutter.setBusy(false);
-            currentCutter = null;
+            setOperator(null);
         }
-        currentProgress = 0;
+        setWorking(false);
+        setWorkProgress(0);
         log("INFO", "CUTTING RESET: Progress cleared due to station switch.");
     }
     
     
     @Override
     public float getProgressRatio() {
+        float currentProgress = getWorkProgress();
         if (currentProgress > 0 && placedItem instanceof Preparable) {
             return Math.min(1.0f, currentProgress / GameConfig.CUTTING_REQUIRED_TIME_MS);
         }
@@ -94,6 +77,7 @@ public class CuttingStation extends Station {
     @Override
         
     public boolean isActive() {
+        float currentProgress = getWorkProgress();
         return currentProgress > 0 && currentProgress < GameConfig.CUTTING_REQUIRED_TIME_MS;
     }
 
@@ -103,6 +87,7 @@ public class CuttingStation extends Station {
     public void onInteract(Chef chef) {
         if (chef == null) return;
         Item itemHand = chef.getInventory();
+        Chef currentCutter = getOperator();
 
         
         if (itemHand instanceof KitchenUtensil && placedItem instanceof Plate) {
@@ -143,12 +128,13 @@ public class CuttingStation extends Station {
         
         if (chef.isBusy() && chef == currentCutter) {
             currentCutter.setBusy(false); 
+            setWorking(false);
             
-            if (activeStation == this) {
-                activeStation = null;
+            if (getActiveStation() == this) {
+                setActiveStation(null);
             }
             
-            log("INFO", "PAUSED: Chopping paused (Progress kept: " + (int)currentProgress + "ms). Can resume anytime.");
+            log("INFO", "PAUSED: Chopping paused (Progress kept: " + (int)getWorkProgress() + "ms). Can resume anytime.");
             return; 
         }
 
@@ -184,7 +170,7 @@ public class CuttingStation extends Station {
             log("ACTION", "DROPPED: " + itemHand.getName() + " placed on station.");
             placedItem = itemHand;
             chef.setInventory(null);
-            currentProgress = 0;
+            setWorkProgress(0);
             return;
         }
         
@@ -193,26 +179,28 @@ public class CuttingStation extends Station {
             Preparable p = (Preparable) placedItem;
             if (p.canBeChopped()) {
                 
+                CuttingStation activeStation = (CuttingStation) getActiveStation();
                 if (activeStation != null && activeStation != this) {
                     activeStation.resetProgress();
                 }
-                activeStation = this;
+                setActiveStation(this);
                 
-                this.currentCutter = chef;
+                setOperator(chef);
+                setWorking(true);
                 chef.setBusy(true);
                 
                 
-                long currentTime = System.currentTimeMillis();
-                if (currentProgress == 0) {
+                long currentTime = currentTimeMs();
+                if (getWorkProgress() == 0) {
                     
                     
                     if (currentTime - lastChoppingSound >= 3000) {
-                        SoundManager.getInstance().playSoundEffect("chopping");
+                        playSound("chopping");
                         lastChoppingSound = currentTime;
                     }
                     log("ACTION", "STARTED: Chopping " + placedItem.getName() + "...");
                 } else {
-                    log("INFO", "RESUMED: Chopping resumed from " + (int)currentProgress + "ms.");
+                    log("INFO", "RESUMED: Chopping resumed from " + (int)getWorkProgress() + "ms.");
                 }
                 return; 
             } else {
@@ -232,4 +220,29 @@ public class CuttingStation extends Station {
 
         log("INFO", "Invalid interaction scenario.");
     }
-}
\ No newline at end of file
+    
+    
+    @Override
+    public Object createMemento() {
+        return new Memento(copyItem(placedItem), lastChoppingSound);
+    }
+    
+    
+    @Override
+    public void restoreMemento(Object memento) {
+        Memento m = (Memento) memento;
+        this.placedItem = copyItem(m.placedItem);
+        this.lastChoppingSound = m.lastChoppingSound;
+    }
+    
+    
+    private static final class Memento {
+        final Item placedItem;
+        final long lastChoppingSound;
+        
+        Memento(Item placedItem, long lastChoppingSound) {
+            this.placedItem = placedItem;
+            this.lastChoppingSound = lastChoppingSound;
+        }
+    }
+}
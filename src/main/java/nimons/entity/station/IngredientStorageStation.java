@@ -50,7 +50,7 @@ public class IngredientStorageStation extends Station {
         this.name = storedItem.getName() + " Storage";
 
         
-        System.out.println("DEBUG I: Membuat " + itemName + " di Posisi: (" + x + ", " + y + ")");
+        log("DEBUG", "Membuat " + itemName + " di Posisi: (" + x + ", " + y + ")");
     }
     
     @Override
@@ -160,4 +160,16 @@ public class IngredientStorageStation extends Station {
     public Item getStoredItem() { return storedItem; }
     
     public Item getPlacedItem() { return placedItem; }
+    
+    
+    @Override
+    public Object createMemento() {
+        return copyItem(placedItem);
+    }
+    
+    
+    @Override
+    public void restoreMemento(Object memento) {
+        placedItem = copyItem((Item) memento);
+    }
 }
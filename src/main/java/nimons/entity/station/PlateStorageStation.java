@@ -10,21 +10,11 @@ import nimons.entity.item.Plate;
 
 public class PlateStorageStation extends Station {
 
-    
-    private static PlateStorageStation instance;
-    
     private Stack<Plate> plates; 
 
     public PlateStorageStation(String name, Position position) {
         super(name, position);
         
-        
-        if (instance == null) {
-            instance = this;
-        } else {
-            System.err.println("WARNING: Multiple PlateStorageStation created! Using the first instance.");
-        }
-        
         this.plates = new Stack<>();
         
         
@@ -34,19 +24,6 @@ public class PlateStorageStation extends Station {
         log("INFO", "INITIAL STOCK: " + GameConfig.INITIAL_PLATE_STOCK + " clean plates available.");
     }
 
-    public static PlateStorageStation getInstance() {
-        return instance;
-    }
-    
-    
-        
-    public static void resetInstance() {
-        if (instance != null) {
-            System.out.println("[PlateStorageStation] Resetting singleton instance");
-            instance = null;
-        }
-    }
-
     
     @Override
         
@@ -97,6 +74,7 @@ public class PlateStorageStation extends Station {
         
     public void addPlateToStack(Plate p) {
         if (p != null) {
+            markChanged();
             
             if (plates.size() >= GameConfig.INITIAL_PLATE_STOCK) {
                 log("WARNING", "REJECTED: Cannot add plate. Storage at maximum capacity (" + GameConfig.INITIAL_PLATE_STOCK + " plates).");
@@ -131,4 +109,17 @@ public class PlateStorageStation extends Station {
     public int getPlateCount() {
         return plates.size();
     }
-}
\ No newline at end of file
+    
+    
+    @Override
+    public Object createMemento() {
+        return copyPlates(plates);
+    }
+    
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restoreMemento(Object memento) {
+        this.plates = copyPlates((Stack<Plate>) memento);
+    }
+}
@@ -38,6 +38,7 @@ public class Rack extends Station {
     public void addCleanPlate(Plate p) {
         if (p != null && p.isClean()) {
             cleanPlates.push(p);
+            markChanged();
             log("STORE", "Clean plate added. Total: " + cleanPlates.size());
         } else {
             System.err.println("ERROR: Attempted to store non-clean plate in Rack.");
@@ -48,4 +49,20 @@ public class Rack extends Station {
     public int getCleanPlateCount() {
         return cleanPlates.size();
     }
+    
+    
+    @Override
+    public Object createMemento() {
+        return copyPlates(cleanPlates);
+    }
+    
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restoreMemento(Object memento) {
+        cleanPlates.clear();
+        for (Plate plate : (Stack<Plate>) memento) {
+            cleanPlates.push(plate.copy());
+        }
+    }
 }
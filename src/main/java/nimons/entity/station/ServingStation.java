@@ -5,21 +5,15 @@ import java.util.Iterator;
 import java.util.List;
 
 import nimons.core.GameConfig;
-import nimons.core.SoundManager;
 import nimons.entity.chef.Chef;
 import nimons.entity.common.Position;
 import nimons.entity.item.Dish;
 import nimons.entity.item.Item;
 import nimons.entity.item.Plate;
-import nimons.gui.GameScreen;
 import nimons.logic.GameState;
-import nimons.logic.order.OrderManager;
 
 public class ServingStation extends Station {
 
-    private OrderManager orderManager;
-    
-    
     private static class PendingPlate {
         final Plate plate;
         float timer;
@@ -43,22 +37,26 @@ public class ServingStation extends Station {
     public ServingStation(String name, Position position) {
         super(name, position);
         
-        this.orderManager = OrderManager.getInstance();
         this.pendingReturns = new ArrayList<>();
     }
     
     
     private GameState getGameState() {
-        GameScreen gameScreen = GameScreen.getInstance();
-        return gameScreen != null ? gameScreen.getGameState() : null;
+        return simulation != null ? simulation.getGameState() : null;
     }
 
     
+    @Override
+    public boolean isIdle() {
+        return pendingReturns.isEmpty();
+    }
+    
+    
     @Override
         
     public void update(long deltaTime) {
         
-        PlateStorageStation plateStorage = PlateStorageStation.getInstance();
+        PlateStorageStation plateStorage = simulation != null ? simulation.getPlateStorage() : null;
         
         if (plateStorage == null || pendingReturns.isEmpty()) return;
 
@@ -74,6 +72,7 @@ public class ServingStation extends Station {
                 it.remove();
             }
         }
+        setWorking(!pendingReturns.isEmpty());
     }
 
     
@@ -98,7 +97,7 @@ public class ServingStation extends Station {
             log("ACTION", "SERVING: Presenting " + masakan.getName() + " to customer...");
 
             
-            nimons.entity.order.Order completedOrder = orderManager.completeOrder(masakan);
+            nimons.entity.order.Order completedOrder = simulation != null ? simulation.getOrderManager().completeOrder(masakan) : null;
 
             if (completedOrder != null) {
                 
@@ -111,15 +110,15 @@ public class ServingStation extends Station {
             } else {
                 log("FAIL", "ORDER MISMATCH! Dish '" + masakan.getName() + "' is not in the order list.");
                 
-                SoundManager.getInstance().playSoundEffect("wrong");
+                playSound("wrong");
                 
                 GameState gameState = getGameState();
                 if (gameState != null) {
-                    System.out.println("[ServingStation] Calling loseLife(). Current lives: " + gameState.getLives());
+                    print("[ServingStation] Calling loseLife(). Current lives: " + gameState.getLives());
                     gameState.loseLife();
-                    System.out.println("[ServingStation] After loseLife(). Lives now: " + gameState.getLives());
+                    print("[ServingStation] After loseLife(). Lives now: " + gameState.getLives());
                 } else {
-                    System.out.println("[ServingStation] ERROR: gameState is null, cannot reduce lives!");
+                    print("[ServingStation] ERROR: gameState is null, cannot reduce lives!");
                 }
             }
             
@@ -136,9 +135,34 @@ public class ServingStation extends Station {
 
             
             pendingReturns.add(new PendingPlate(piring));
+            setWorking(true);
             log("SUCCESS", "DIRTY PLATE QUEUED: Plate added to return queue. Will return in 10 seconds.");
         } else {
             log("INFO", "Only plated items can be served here.");
         }
     }
-}
\ No newline at end of file
+    
+    
+    @Override
+    public Object createMemento() {
+        return copyPendingReturns(pendingReturns);
+    }
+    
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restoreMemento(Object memento) {
+        this.pendingReturns = copyPendingReturns((List<PendingPlate>) memento);
+    }
+    
+    
+    private static List<PendingPlate> copyPendingReturns(List<PendingPlate> source) {
+        List<PendingPlate> copies = new ArrayList<>(source.size());
+        for (PendingPlate pp : source) {
+            PendingPlate copy = new PendingPlate(pp.plate.copy());
+            copy.timer = pp.timer;
+            copies.add(copy);
+        }
+        return copies;
+    }
+}
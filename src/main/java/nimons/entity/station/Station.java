@@ -2,6 +2,7 @@ package nimons.entity.station;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Stack;
 
 import nimons.entity.chef.Chef; 
 import nimons.entity.common.Position;
@@ -9,11 +10,16 @@ import nimons.entity.item.Dish;
 import nimons.entity.item.Item;
 import nimons.entity.item.Plate;
 import nimons.entity.item.interfaces.Preparable;
-import nimons.gui.GameScreen; 
+import nimons.logic.GameSimulation;
+import nimons.logic.entity.EntityStore;
+import nimons.logic.tick.TickSystem;
 
-public abstract class Station {
+public abstract class Station implements TickSystem {
     protected String name;
     protected Position position;
+    protected GameSimulation simulation;
+    private int entityId = -1;
+    private List<String> pendingLogs;
 
     public Station(String name, Position position) {
         this.name = name;
@@ -29,26 +35,146 @@ public abstract class Station {
         
     }
 
+    
+    @Override
+    public boolean isIdle() {
+        return true;
+    }
+
     public String getName() { return name; }
     public Position getPosition() { return position; }
 
+    public GameSimulation getSimulation() { return simulation; }
+    public void setSimulation(GameSimulation simulation) {
+        this.simulation = simulation;
+        if (simulation != null && pendingLogs != null) {
+            for (String message : pendingLogs) {
+                simulation.log(message);
+            }
+            pendingLogs = null;
+        }
+    }
+
+    public int getEntityId() { return entityId; }
+    public void setEntityId(int entityId) { this.entityId = entityId; }
+
     
         
     protected void log(String level, String message) {
         String stationType = this.getClass().getSimpleName(); 
         String formattedMessage = "[" + stationType + "] [" + level + "] " + message;
         
-        System.out.println(formattedMessage);
+        if (simulation == null) {
+            if (pendingLogs == null) {
+                pendingLogs = new ArrayList<>();
+            }
+            pendingLogs.add(formattedMessage);
+            return;
+        }
         
+        simulation.log(formattedMessage);
+        simulation.addLog(formattedMessage);
+    }
+    
+    
+    protected void print(String message) {
+        if (simulation != null) {
+            simulation.log(message);
+        } else {
+            System.out.println(message);
+        }
+    }
+    
+    
         
-        try {
-            
-            GameScreen.getInstance().addLog(formattedMessage); 
-        } catch (Exception e) {
-            
-            System.err.println("CRITICAL ERROR: Failed to add log to GUI: " + e.getMessage());
+    protected void playSound(String name) {
+        if (simulation != null) {
+            simulation.playSound(name);
         }
-    } 
+    }
+    
+    
+    protected void markChanged() {
+        if (simulation != null && entityId >= 0) {
+            simulation.getEntities().markDirty(entityId);
+        }
+    }
+    
+    
+    public void onWorkComplete() {
+    }
+    
+    
+    public void onWorkReport() {
+    }
+    
+    
+    protected float getWorkProgress() {
+        return simulation != null && entityId >= 0 ? simulation.getEntities().getProgress(entityId) : 0.0f;
+    }
+    
+    
+    protected void setWorkProgress(float progress) {
+        simulation.getEntities().setProgress(entityId, progress);
+    }
+    
+    
+    protected Chef getOperator() {
+        return simulation != null && entityId >= 0 ? simulation.getEntities().getChef(simulation.getEntities().getOperator(entityId)) : null;
+    }
+    
+    
+    protected void setOperator(Chef chef) {
+        simulation.getEntities().setOperator(entityId, chef != null ? chef.getEntityId() : EntityStore.NO_ENTITY);
+    }
+    
+    
+    protected void setWorking(boolean working) {
+        if (simulation != null && entityId >= 0) {
+            simulation.getEntities().setWorking(entityId, working);
+        }
+    }
+    
+    
+    protected Station getActiveStation() {
+        return simulation != null ? simulation.getActiveStation(getClass()) : null;
+    }
+    
+    
+    protected void setActiveStation(Station station) {
+        if (simulation != null) {
+            simulation.setActiveStation(getClass(), station);
+        }
+    }
+    
+    
+    public Object createMemento() {
+        return null;
+    }
+    
+    
+    public void restoreMemento(Object memento) {
+    }
+    
+    
+    protected static Item copyItem(Item item) {
+        return item != null ? item.copy() : null;
+    }
+    
+    
+    protected static Stack<Plate> copyPlates(Stack<Plate> plates) {
+        Stack<Plate> copies = new Stack<>();
+        copies.ensureCapacity(plates.size());
+        for (Plate plate : plates) {
+            copies.push(plate.copy());
+        }
+        return copies;
+    }
+    
+    
+    protected long currentTimeMs() {
+        return simulation != null ? simulation.getClock().currentTimeMs() : 0L;
+    }
     
     
     public float getProgressRatio() {
@@ -10,19 +10,11 @@ import nimons.entity.item.Plate;
 
 public class WashingStation extends Station {
     
-    private static WashingStation activeWashingStation; 
     private Rack outputRackReference; 
 
     private Stack<Plate> dirtyPlates; 
     
     private Plate plateInWash; 
-    private float currentProgress = 0;
-    
-    
-    private Chef currentWasher; 
-    
-    
-    private float logTimer = 0; 
 
     public WashingStation(String name, Position position) {
         super(name, position);
@@ -36,20 +28,26 @@ public class WashingStation extends Station {
     @Override
     public float getProgressRatio() {
         
-        if (GameConfig.WASHING_REQUIRED_TIME_MS == 0 || plateInWash == null || currentWasher == null) {
+        if (GameConfig.WASHING_REQUIRED_TIME_MS == 0 || plateInWash == null || getOperator() == null) {
             return 0.0f;
         }
-        return Math.min(1.0f, currentProgress / GameConfig.WASHING_REQUIRED_TIME_MS);
+        return Math.min(1.0f, getWorkProgress() / GameConfig.WASHING_REQUIRED_TIME_MS);
     }
     
     @Override
         
     public boolean isActive() {
         
+        float currentProgress = getWorkProgress();
         return currentProgress > 0 && currentProgress < GameConfig.WASHING_REQUIRED_TIME_MS;
     }
     
     
+    public boolean hasPlatesToWash() {
+        return plateInWash != null || !dirtyPlates.isEmpty();
+    }
+    
+    
     public void setOutputRack(Rack rack) {
         this.outputRackReference = rack;
         log("INIT", "Sink linked to Rack at " + rack.getPosition());
@@ -58,25 +56,16 @@ public class WashingStation extends Station {
     
     @Override
         
-    public void update(long deltaTime) {
-        
-        if (this == activeWashingStation && currentWasher != null && currentWasher.isBusy() && plateInWash != null) {
-            currentProgress += deltaTime;
-            
-            
-            if (logTimer >= GameConfig.WASHING_LOG_INTERVAL_MS) {
-                int percentage = (int)(getProgressRatio() * 100);
-                log("TIMER", "WASHING: Progress " + percentage + "%.");
-                logTimer = 0;
-            } else {
-                logTimer += deltaTime;
-            }
-            
-            if (currentProgress >= GameConfig.WASHING_REQUIRED_TIME_MS) {
-                finishWashing();
-            }
-        }
+    public void onWorkReport() {
+        int percentage = (int)(getProgressRatio() * 100);
+        log("TIMER", "WASHING: Progress " + percentage + "%.");
+    }
+    
+    
+    @Override
         
+    public void onWorkComplete() {
+        finishWashing();
     }
 
     
@@ -87,14 +76,15 @@ public class WashingStation extends Station {
         Item itemHand = chef.getInventory();
 
         
-        if (chef.isBusy() && chef == currentWasher) {
+        if (chef.isBusy() && chef == getOperator()) {
             chef.setBusy(false);
+            setWorking(false);
             
-            if (activeWashingStation == this) {
-                activeWashingStation = null;
+            if (getActiveStation() == this) {
+                setActiveStation(null);
             }
             
-            log("INFO", "PAUSED: Washing paused (Progress kept: " + (int)currentProgress + "ms).");
+            log("INFO", "PAUSED: Washing paused (Progress kept: " + (int)getWorkProgress() + "ms).");
             return;
         }
 
@@ -115,7 +105,7 @@ public class WashingStation extends Station {
         if (itemHand == null) {
             if (plateInWash == null && !dirtyPlates.isEmpty()) {
                 plateInWash = dirtyPlates.pop();
-                currentProgress = 0; 
+                setWorkProgress(0); 
             }
             
             if (plateInWash != null) {
@@ -126,16 +116,18 @@ public class WashingStation extends Station {
                 }
                 
                 
+                WashingStation activeWashingStation = (WashingStation) getActiveStation();
                 if (activeWashingStation != null && activeWashingStation != this) {
                     activeWashingStation.resetWashingProgress();
                 }
-                activeWashingStation = this;
+                setActiveStation(this);
                 
                 
-                String action = (currentProgress > 0) ? "RESUMED" : "STARTED";
-                this.currentWasher = chef;
+                String action = (getWorkProgress() > 0) ? "RESUMED" : "STARTED";
+                setOperator(chef);
+                setWorking(true);
                 chef.setBusy(true); 
-                log("ACTION", action + " WASHING: Chef cleaning plate (Progress: " + (int)currentProgress + "ms).");
+                log("ACTION", action + " WASHING: Chef cleaning plate (Progress: " + (int)getWorkProgress() + "ms).");
                 return;
             }
         }
@@ -160,31 +152,59 @@ public class WashingStation extends Station {
         }
         
         
-        this.currentProgress = 0;
+        setWorkProgress(0);
         this.plateInWash = null;
         
         
+        Chef currentWasher = getOperator();
         if (currentWasher != null) {
             currentWasher.setBusy(false);
-            currentWasher = null;
+            setOperator(null);
         }
+        setWorking(false);
         
         
-        if (activeWashingStation == this) {
-            activeWashingStation = null;
+        if (getActiveStation() == this) {
+            setActiveStation(null);
         }
     }
     
     
         
     private void resetWashingProgress() {
+        Chef currentWasher = getOperator();
         if (currentWasher != null) {
             currentWasher.setBusy(false);
-            currentWasher = null;
+            setOperator(null);
         }
-        currentProgress = 0;
+        setWorking(false);
+        setWorkProgress(0);
         plateInWash = null;
         log("INFO", "WASHING RESET: Progress cleared due to station switch.");
     }
     
-}
\ No newline at end of file
+    
+    @Override
+    public Object createMemento() {
+        return new Memento(copyPlates(dirtyPlates), plateInWash != null ? plateInWash.copy() : null);
+    }
+    
+    
+    @Override
+    public void restoreMemento(Object memento) {
+        Memento m = (Memento) memento;
+        this.dirtyPlates = copyPlates(m.dirtyPlates);
+        this.plateInWash = m.plateInWash != null ? m.plateInWash.copy() : null;
+    }
+    
+    
+    private static final class Memento {
+        final Stack<Plate> dirtyPlates;
+        final Plate plateInWash;
+        
+        Memento(Stack<Plate> dirtyPlates, Plate plateInWash) {
+            this.dirtyPlates = dirtyPlates;
+            this.plateInWash = plateInWash;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package nimons.gui;
+
+import java.util.List;
+
+import nimons.entity.chef.Chef;
+
+public class Camera {
+
+    private final double viewportX;
+    private final double viewportY;
+    private final double viewportWidth;
+    private final double viewportHeight;
+    private final int margin;
+    private int mapWidth;
+    private int mapHeight;
+    private double tileSize;
+    private double offsetX;
+    private double offsetY;
+
+    public Camera(double viewportX, double viewportY, double viewportWidth, double viewportHeight, int margin) {
+        this.viewportX = viewportX;
+        this.viewportY = viewportY;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.margin = margin;
+    }
+
+
+    public void setMap(int mapWidth, int mapHeight, double tileSize) {
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.tileSize = tileSize;
+    }
+
+
+    public void follow(List<Chef> chefs, Chef activeChef, double alpha) {
+        if (chefs == null || chefs.isEmpty()) {
+            lookAt(mapWidth / 2.0, mapHeight / 2.0);
+            return;
+        }
+
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (Chef chef : chefs) {
+            double x = chef.getInterpolatedRenderX(alpha);
+            double y = chef.getInterpolatedRenderY(alpha);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x + 1);
+            maxY = Math.max(maxY, y + 1);
+        }
+
+
+        boolean framesAll = (maxX - minX + 2) * tileSize <= viewportWidth
+            && (maxY - minY + 2) * tileSize <= viewportHeight;
+        if (framesAll || activeChef == null) {
+            lookAt((minX + maxX) / 2, (minY + maxY) / 2);
+        } else {
+            lookAt(activeChef.getInterpolatedRenderX(alpha) + 0.5, activeChef.getInterpolatedRenderY(alpha) + 0.5);
+        }
+    }
+
+
+    public void lookAt(double tileX, double tileY) {
+        offsetX = viewportX + axisOffset(tileX, mapWidth, viewportWidth, 0.5);
+        offsetY = viewportY + axisOffset(tileY, mapHeight, viewportHeight, 0.0);
+    }
+
+
+    private double axisOffset(double center, int tiles, double viewport, double align) {
+        double extent = tiles * tileSize;
+        if (extent <= viewport) {
+            return Math.floor((viewport - extent) * align);
+        }
+        double scroll = center * tileSize - viewport / 2;
+        scroll = Math.max(0, Math.min(extent - viewport, scroll));
+        return -Math.round(scroll);
+    }
+
+
+    public boolean isVisible(int x, int y) {
+        return x >= getMinTileX() && x <= getMaxTileX() && y >= getMinTileY() && y <= getMaxTileY();
+    }
+
+    public int getMinTileX() {
+        return Math.max(0, (int) Math.floor((viewportX - offsetX) / tileSize) - margin);
+    }
+
+    public int getMaxTileX() {
+        return Math.min(mapWidth - 1, (int) Math.ceil((viewportX + viewportWidth - offsetX) / tileSize) + margin);
+    }
+
+    public int getMinTileY() {
+        return Math.max(0, (int) Math.floor((viewportY - offsetY) / tileSize) - margin);
+    }
+
+    public int getMaxTileY() {
+        return Math.min(mapHeight - 1, (int) Math.ceil((viewportY + viewportHeight - offsetY) / tileSize) + margin);
+    }
+
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    public double getOffsetY() {
+        return offsetY;
+    }
+
+    public double getViewportX() {
+        return viewportX;
+    }
+
+    public double getViewportY() {
+        return viewportY;
+    }
+
+    public double getViewportWidth() {
+        return viewportWidth;
+    }
+
+    public double getViewportHeight() {
+        return viewportHeight;
+    }
+
+    public double getVisibleHeight() {
+        return Math.min(viewportHeight, mapHeight * tileSize);
+    }
+}
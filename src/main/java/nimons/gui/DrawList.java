@@ -0,0 +1,175 @@
+package nimons.gui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+
+public final class DrawList {
+
+    public static final DrawList EMPTY = new DrawList(new Command[0], new double[0]);
+
+    private final Command[] commands;
+    private final double[] clipRects;
+
+    private DrawList(Command[] commands, double[] clipRects) {
+        this.commands = commands;
+        this.clipRects = clipRects;
+    }
+
+
+    public void clip(GraphicsContext gc) {
+        gc.beginPath();
+        for (int i = 0; i < clipRects.length; i += 4) {
+            gc.rect(clipRects[i], clipRects[i + 1], clipRects[i + 2], clipRects[i + 3]);
+        }
+        gc.clip();
+    }
+
+
+    public void replay(GraphicsContext gc, SpriteCache sprites) {
+        for (Command c : commands) {
+            switch (c.op) {
+                case SET_FILL:
+                    gc.setFill((Paint) c.arg);
+                    break;
+                case SET_STROKE:
+                    gc.setStroke((Paint) c.arg);
+                    break;
+                case SET_LINE_WIDTH:
+                    gc.setLineWidth(c.x);
+                    break;
+                case SET_FONT:
+                    gc.setFont((Font) c.arg);
+                    break;
+                case FILL_RECT:
+                    gc.fillRect(c.x, c.y, c.w, c.h);
+                    break;
+                case STROKE_RECT:
+                    gc.strokeRect(c.x, c.y, c.w, c.h);
+                    break;
+                case FILL_OVAL:
+                    gc.fillOval(c.x, c.y, c.w, c.h);
+                    break;
+                case FILL_TEXT:
+                    gc.fillText((String) c.arg, c.x, c.y);
+                    break;
+                case STROKE_TEXT:
+                    gc.strokeText((String) c.arg, c.x, c.y);
+                    break;
+                case IMAGE:
+                    sprites.draw(gc, (Image) c.arg, c.x, c.y, c.w, c.h);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    public boolean hasClip() {
+        return clipRects.length > 0;
+    }
+
+    public int size() {
+        return commands.length;
+    }
+
+
+    private enum Op {
+        SET_FILL, SET_STROKE, SET_LINE_WIDTH, SET_FONT,
+        FILL_RECT, STROKE_RECT, FILL_OVAL, FILL_TEXT, STROKE_TEXT, IMAGE
+    }
+
+
+    private static final class Command {
+        final Op op;
+        final double x;
+        final double y;
+        final double w;
+        final double h;
+        final Object arg;
+
+        Command(Op op, double x, double y, double w, double h, Object arg) {
+            this.op = op;
+            this.x = x;
+            this.y = y;
+            this.w = w;
+            this.h = h;
+            this.arg = arg;
+        }
+    }
+
+
+    public static final class Builder {
+        private final List<Command> commands = new ArrayList<>();
+        private double[] clipRects = new double[64];
+        private int clipLength = 0;
+
+        public void clipRect(double x, double y, double w, double h) {
+            if (clipLength + 4 > clipRects.length) {
+                clipRects = Arrays.copyOf(clipRects, clipRects.length * 2);
+            }
+            clipRects[clipLength++] = x;
+            clipRects[clipLength++] = y;
+            clipRects[clipLength++] = w;
+            clipRects[clipLength++] = h;
+        }
+
+        public void setFill(Paint paint) {
+            commands.add(new Command(Op.SET_FILL, 0, 0, 0, 0, paint));
+        }
+
+        public void setStroke(Paint paint) {
+            commands.add(new Command(Op.SET_STROKE, 0, 0, 0, 0, paint));
+        }
+
+        public void setLineWidth(double width) {
+            commands.add(new Command(Op.SET_LINE_WIDTH, width, 0, 0, 0, null));
+        }
+
+        public void setFont(Font font) {
+            commands.add(new Command(Op.SET_FONT, 0, 0, 0, 0, font));
+        }
+
+        public void fillRect(double x, double y, double w, double h) {
+            commands.add(new Command(Op.FILL_RECT, x, y, w, h, null));
+        }
+
+        public void strokeRect(double x, double y, double w, double h) {
+            commands.add(new Command(Op.STROKE_RECT, x, y, w, h, null));
+        }
+
+        public void fillOval(double x, double y, double w, double h) {
+            commands.add(new Command(Op.FILL_OVAL, x, y, w, h, null));
+        }
+
+        public void fillText(String text, double x, double y) {
+            commands.add(new Command(Op.FILL_TEXT, x, y, 0, 0, text));
+        }
+
+        public void strokeText(String text, double x, double y) {
+            commands.add(new Command(Op.STROKE_TEXT, x, y, 0, 0, text));
+        }
+
+        public void drawImage(Image image, double x, double y, double w, double h) {
+            if (image != null) {
+                commands.add(new Command(Op.IMAGE, x, y, w, h, image));
+            }
+        }
+
+
+        public DrawList build() {
+            if (commands.isEmpty() && clipLength == 0) {
+                return EMPTY;
+            }
+            DrawList list = new DrawList(commands.toArray(new Command[0]), Arrays.copyOf(clipRects, clipLength));
+            commands.clear();
+            clipLength = 0;
+            return list;
+        }
+    }
+}
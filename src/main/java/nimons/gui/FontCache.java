@@ -0,0 +1,28 @@
+package nimons.gui;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import nimons.core.GameConfig;
+
+public final class FontCache {
+
+    private static final Map<String, Font> FONTS = new ConcurrentHashMap<>();
+
+    private FontCache() {
+        throw new AssertionError("FontCache is a utility class and should not be instantiated");
+    }
+
+
+    public static Font get(double size) {
+        return get(FontWeight.NORMAL, size);
+    }
+
+
+    public static Font get(FontWeight weight, double size) {
+        return FONTS.computeIfAbsent(weight.name() + "@" + size,
+            key -> Font.font(GameConfig.DEFAULT_FONT_FAMILY, weight, size));
+    }
+}
@@ -1,39 +1,43 @@
 package nimons.gui;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 import javafx.stage.Stage;
+import nimons.core.AssetRegistry;
 import nimons.core.GameConfig;
 import nimons.core.SoundManager;
 import nimons.entity.chef.Chef;
 import nimons.entity.chef.Direction;
 import nimons.entity.common.Position;
-import nimons.entity.item.IngredientState;
-import nimons.entity.item.ingredient.Cucumber;
-import nimons.entity.item.ingredient.Fish;
-import nimons.entity.item.ingredient.Nori;
-import nimons.entity.item.ingredient.Rice;
-import nimons.entity.item.ingredient.Shrimp;
 import nimons.entity.item.interfaces.Preparable;
-import nimons.entity.map.MapLoadResult;
-import nimons.entity.map.MapLoader;
+import nimons.entity.map.StationRegistry;
 import nimons.entity.map.Tile;
 import nimons.entity.map.TileManager;
-import nimons.entity.order.IngredientRequirement;
-import nimons.entity.order.Recipe;
+import nimons.entity.order.Order;
 import nimons.entity.station.AssemblyStation;
 import nimons.entity.station.CookingStation;
 import nimons.entity.station.CuttingStation;
@@ -42,34 +46,42 @@ import nimons.entity.station.PlateStorageStation;
 import nimons.entity.station.ServingStation;
 import nimons.entity.station.Station;
 import nimons.entity.station.WashingStation;
+import nimons.logic.GameSimulation;
 import nimons.logic.GameState;
 import nimons.logic.concurrency.GameTaskExecutor;
-import nimons.logic.concurrency.OrderGeneratorTask;
-import nimons.logic.order.OrderManager;
+import nimons.logic.replay.InputRecording;
+import nimons.logic.tick.TickScheduler;
 
 public class GameScreen {
 
     
     private static final int WINDOW_WIDTH = GameConfig.WINDOW_WIDTH;
     private static final int WINDOW_HEIGHT = GameConfig.WINDOW_HEIGHT;
+    private static final Color CUTTING_PROGRESS_COLOR = Color.web("#FFD700");
+    private static final Color WASHING_PROGRESS_COLOR = Color.web("#00AAFF");
+    private static final Color COOKING_PROGRESS_COLOR = Color.web("#00AA00");
+    private static final Color BURNING_PROGRESS_COLOR = CUTTING_PROGRESS_COLOR;
     
     private final Stage stage;
     private final StackPane rootPane;
-    private final Canvas canvas;
+    private final Canvas mapCanvas;
+    private final Canvas entityCanvas;
+    private final Canvas progressCanvas;
+    private final Canvas orderCanvas;
+    private final Canvas hudCanvas;
+    private final Canvas overlayCanvas;
+    private final GraphicsContext mapGc;
     private final GraphicsContext gc;
+    private final GraphicsContext progressGc;
+    private final GraphicsContext orderGc;
+    private final GraphicsContext hudGc;
+    private final GraphicsContext overlayGc;
     
+    private GameSimulation simulation;
     private TileManager tileManager;
-    private List<Position> spawnPositions;
     private AnimationTimer gameLoop;
-    private Chef playerChef; 	
-    private Chef chef2; 	 	
-    private Chef activeChef; 	
     
     
-    private double chefRenderX = 0;
-    private double chefRenderY = 0;
-    private double chefTargetX = 0;
-    private double chefTargetY = 0;
     private double tileSize = 64; 
     
     
@@ -77,14 +89,11 @@ public class GameScreen {
     private boolean moveDown = false;
     private boolean moveLeft = false;
     private boolean moveRight = false;
-    private long lastMoveTime = 0;
     
     
     private boolean shiftPressed = false;
     
     
-    private boolean isPaused = false;
-    private long pauseStartTime = 0;
     private double menuResumeButtonX = 0;
     private double menuResumeButtonY = 0;
     private double menuResumeButtonWidth = 0;
@@ -95,38 +104,60 @@ public class GameScreen {
     private double menuMainMenuButtonHeight = 0;
     
     
-    private GameState gameState;
-    
-    
-    private OrderManager orderManager;
-    
-    
     private Image floorImage;
     private Image wallImage;
-    private Image chefImage; 
-    private Image chefMoveGif; 
     
-    private Map<Direction, Image> chefIdleImages = new HashMap<>();
-    private Map<Direction, Image> chefMoveImages = new HashMap<>();
+    private Map<Direction, SpriteAnimation> chefIdleAnimations = new HashMap<>();
+    private Map<Direction, SpriteAnimation> chefMoveAnimations = new HashMap<>();
     private Map<String, Image> stationImages;
     private Map<String, Image> itemImages; 
     private Image boilingPotFillGif; 
     
     
-    private Map<Chef, Boolean> chefIsMoving = new HashMap<>(); 
+    private final SpriteAtlas atlas = new SpriteAtlas();
+    private final SpriteCache spriteCache = new SpriteCache(atlas);
+    private final Set<Image> animatedImages = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    
+    private double staticLayerTileSize = -1;
+    private double staticLayerOffsetX = Double.NaN;
+    private double staticLayerOffsetY = Double.NaN;
+    private final Camera camera = new Camera(
+        WINDOW_WIDTH * (1 - GameConfig.TILE_SIZE_SCALE) / 2, GameConfig.MAP_TOP_MARGIN,
+        WINDOW_WIDTH * GameConfig.TILE_SIZE_SCALE, WINDOW_HEIGHT * GameConfig.TILE_SIZE_SCALE,
+        GameConfig.CAMERA_MARGIN_TILES);
+    private final BitSet dirtyTiles = new BitSet();
+    private final BitSet redrawTiles = new BitSet();
+    private final BitSet animatedTiles = new BitSet();
+    private final Map<Chef, int[]> chefRegions = new HashMap<>();
+    private long lastOrderRedrawNanos = 0;
+    private List<Order> lastRenderedOrders = new ArrayList<>();
+    private String lastHandContent;
+    private long lastLogVersion = -1;
+    private int lastHudScore = -1;
+    private String lastHudTime;
+    private boolean overlayShown = false;
+    private final DrawList.Builder draw = new DrawList.Builder();
+    private final DrawList.Builder mapDraw = new DrawList.Builder();
+    private final DrawList.Builder progressDraw = new DrawList.Builder();
+    private final ProgressOverlay progressOverlay = new ProgressOverlay();
+    private final Queue<Runnable> simulationCommands = new ConcurrentLinkedQueue<>();
+    private Future<Frame> pendingFrame;
+    private long pendingFrameNanos = 0;
+    private long producedLogVersion = -1;
+    private List<String> producedLogs = new ArrayList<>();
+    private final QualityController qualityController = new QualityController();
+    private volatile RenderQuality quality = RenderQuality.HIGH;
+    private RenderQuality frameQuality = RenderQuality.HIGH;
+    private RenderQuality staticLayerQuality;
+    private final BitSet deferredTiles = new BitSet();
+    private long lastStationFlushNanos = 0;
 
     
-    private List<String> onScreenLogs = new ArrayList<>();
     private static GameScreen instance; 
-    private final static int MAX_LOGS = 5; 
-    
-    
-    private long gameStartTime = 0;
     
     
     private GameTaskExecutor taskExecutor;
-    private OrderGeneratorTask orderGeneratorTask;
-    private Thread orderGeneratorThread;
     
     private String currentStageId;
 
@@ -138,21 +169,25 @@ public class GameScreen {
         this.stage = stage;
         this.currentStageId = stageId;
         this.rootPane = new StackPane();
-        this.canvas = new Canvas(WINDOW_WIDTH, WINDOW_HEIGHT);
-        this.gc = canvas.getGraphicsContext2D();
+        this.mapCanvas = new Canvas(WINDOW_WIDTH, WINDOW_HEIGHT);
+        this.entityCanvas = new Canvas(WINDOW_WIDTH, WINDOW_HEIGHT);
+        this.progressCanvas = new Canvas(WINDOW_WIDTH, WINDOW_HEIGHT);
+        this.orderCanvas = new Canvas(WINDOW_WIDTH, WINDOW_HEIGHT);
+        this.hudCanvas = new Canvas(WINDOW_WIDTH, WINDOW_HEIGHT);
+        this.overlayCanvas = new Canvas(WINDOW_WIDTH, WINDOW_HEIGHT);
+        this.mapGc = mapCanvas.getGraphicsContext2D();
+        this.gc = entityCanvas.getGraphicsContext2D();
+        this.progressGc = progressCanvas.getGraphicsContext2D();
+        this.orderGc = orderCanvas.getGraphicsContext2D();
+        this.hudGc = hudCanvas.getGraphicsContext2D();
+        this.overlayGc = overlayCanvas.getGraphicsContext2D();
         
         
         
         instance = this; 
         
         
-        rootPane.getChildren().add(canvas);
-        
-        
-        this.gameState = new GameState(GameConfig.GAME_DURATION_SECONDS, GameConfig.PASSING_SCORE_THRESHOLD);
-        
-        
-        this.orderManager = OrderManager.getInstance();
+        rootPane.getChildren().addAll(mapCanvas, entityCanvas, progressCanvas, orderCanvas, hudCanvas, overlayCanvas);
         
         
         loadAssets();
@@ -164,6 +199,11 @@ public class GameScreen {
         setupGameLoop();
     }
     
+    public GameScreen(Stage stage, String stageId, long seed) {
+        this(stage, stageId);
+        simulation.setSeed(seed);
+    }
+    
     
     public static GameScreen getInstance() { 
         return instance; 
@@ -176,27 +216,22 @@ public class GameScreen {
             instance.gameLoop.stop();
         }
         instance = null;
-        
-        
-        PlateStorageStation.resetInstance();
     }
     
     
     public GameState getGameState() {
-        return gameState;
+        return simulation.getGameState();
+    }
+    
+    
+    public GameSimulation getSimulation() {
+        return simulation;
     }
     
     
         
     public void addLog(String message) {
-        
-        onScreenLogs.add(0, message); 
-        
-        
-        if (onScreenLogs.size() > MAX_LOGS) {
-            
-            onScreenLogs.remove(onScreenLogs.size() - 1); 
-        }
+        runOnSimulation(() -> simulation.addLog(message));
     }
     
     
@@ -220,29 +255,20 @@ public class GameScreen {
         }
         
         
-        chefImage = loadImage("/assets/picture/chef side idle.gif");
-        System.out.println("Chef image loaded: " + (chefImage != null));
+        SpriteAnimation chefSideIdle = loadAnimation("/assets/picture/chef side idle.gif");
+        SpriteAnimation chefSideMove = loadAnimation("/assets/picture/chef side move.gif");
+        SpriteAnimation chefDownIdle = loadAnimation("/assets/picture/chef down idle.gif");
+        SpriteAnimation chefDownMove = loadAnimation("/assets/picture/chef down move.gif");
+        SpriteAnimation chefUpIdle = loadAnimation("/assets/picture/chef up idle.gif");
+        SpriteAnimation chefUpMove = loadAnimation("/assets/picture/chef up move.gif");
         
         
-        chefMoveGif = loadImage("/assets/picture/chef side move.gif");
-        System.out.println("Chef move animation loaded: " + (chefMoveGif != null));
-        
-    
-    
-    Image chefDownIdle = loadImage("/assets/picture/chef down idle.gif");
-    Image chefDownMove = loadImage("/assets/picture/chef down move.gif");
-    Image chefUpIdle = loadImage("/assets/picture/chef up idle.gif");
-    Image chefUpMove = loadImage("/assets/picture/chef up move.gif");
-
-    
-    if (chefDownIdle != null) { chefIdleImages.put(Direction.DOWN, chefDownIdle); System.out.println("✓ chef down idle loaded"); }
-    if (chefDownMove != null) { chefMoveImages.put(Direction.DOWN, chefDownMove); System.out.println("✓ chef down move loaded"); }
-    if (chefUpIdle != null) { chefIdleImages.put(Direction.UP, chefUpIdle); System.out.println("✓ chef up idle loaded"); }
-    if (chefUpMove != null) { chefMoveImages.put(Direction.UP, chefUpMove); System.out.println("✓ chef up move loaded"); }
-
-    
-    if (chefImage != null) { chefIdleImages.put(Direction.RIGHT, chefImage); chefIdleImages.put(Direction.LEFT, chefImage); }
-    if (chefMoveGif != null) { chefMoveImages.put(Direction.RIGHT, chefMoveGif); chefMoveImages.put(Direction.LEFT, chefMoveGif); }
+        if (chefSideIdle != null) { chefIdleAnimations.put(Direction.RIGHT, chefSideIdle); chefIdleAnimations.put(Direction.LEFT, chefSideIdle); }
+        if (chefSideMove != null) { chefMoveAnimations.put(Direction.RIGHT, chefSideMove); chefMoveAnimations.put(Direction.LEFT, chefSideMove); }
+        if (chefDownIdle != null) { chefIdleAnimations.put(Direction.DOWN, chefDownIdle); }
+        if (chefDownMove != null) { chefMoveAnimations.put(Direction.DOWN, chefDownMove); }
+        if (chefUpIdle != null) { chefIdleAnimations.put(Direction.UP, chefUpIdle); }
+        if (chefUpMove != null) { chefMoveAnimations.put(Direction.UP, chefUpMove); }
         
         
         Image tableImg = loadImage("/assets/picture/table.png");
@@ -372,30 +398,72 @@ public class GameScreen {
         if (boilingPotFillGif != null) {
             System.out.println("✓ Loaded boiling pot fill GIF");
         }
+    
+    
         
+System.out.println("✓ Loaded " + itemImages.size() + " ingredient/item images");
         
         
-        
-        System.out.println("✓ Loaded " + itemImages.size() + " ingredient/item images");
+        buildAtlas();
         
         System.out.println("=== Assets Loading Complete ===");
     }
         
     private Image loadImage(String path) {
-        try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is == null) {
-                System.err.println("✗ Image not found: " + path);
-                return null;
-            }
-            Image img = new Image(is);
-            is.close();
-            return img;
-        } catch (Exception e) {
-            System.err.println("✗ Failed to load image: " + path);
-            e.printStackTrace();
+        Image img = AssetRegistry.getInstance().getImage(path);
+        if (img == null) {
+            System.err.println("✗ Image not available: " + path);
             return null;
         }
+        if (path.endsWith(".gif")) {
+            animatedImages.add(img);
+        }
+        return img;
+    }
+    
+    
+        
+    private SpriteAnimation loadAnimation(String path) {
+        SpriteAnimation animation = AssetRegistry.getInstance().getAnimation(path);
+        if (animation == null) {
+            System.err.println("✗ Animation not available: " + path);
+        }
+        return animation;
+    }
+    
+    
+        
+    private void buildAtlas() {
+        addToAtlas("floor", floorImage);
+        addToAtlas("wall", wallImage);
+        for (Map.Entry<String, Image> entry : stationImages.entrySet()) {
+            addToAtlas(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Image> entry : itemImages.entrySet()) {
+            addToAtlas(entry.getKey(), entry.getValue());
+        }
+        addToAtlas("chef idle", chefIdleAnimations);
+        addToAtlas("chef move", chefMoveAnimations);
+        atlas.pack();
+    }
+    
+    
+    private void addToAtlas(String key, Image image) {
+        if (image != null && !animatedImages.contains(image)) {
+            atlas.add(key, image);
+        }
+    }
+    
+    
+    private void addToAtlas(String prefix, Map<Direction, SpriteAnimation> animations) {
+        for (Map.Entry<Direction, SpriteAnimation> entry : animations.entrySet()) {
+            Image[] frames = entry.getValue().getFrames();
+            Image[] flipped = entry.getValue().getFlippedFrames();
+            for (int i = 0; i < frames.length; i++) {
+                atlas.add(prefix + " " + entry.getKey() + " #" + i, frames[i]);
+                atlas.add(prefix + " " + entry.getKey() + " #" + i + " flipped", flipped[i]);
+            }
+        }
     }
     
     
@@ -410,151 +478,49 @@ public class GameScreen {
     
     
     private Image getChefImage(Chef chef) {
-        Boolean isMoving = chefIsMoving.getOrDefault(chef, false);
         Direction dir = chef.getDirection();
-
-        
-        if (isMoving) {
-            Image dirMove = chefMoveImages.get(dir);
-            if (dirMove != null) return dirMove;
-            
-            if (chefMoveGif != null) return chefMoveGif;
-        } else {
-            Image dirIdle = chefIdleImages.get(dir);
-            if (dirIdle != null) return dirIdle;
-            
-            if (chefImage != null) return chefImage;
-        }
-
-        
-        return chefImage != null ? chefImage : chefMoveGif;
-    }
-    
-    
-        
-    private void drawChefWithDirection(GraphicsContext gc, Image image, double x, double y, double size, Direction direction) {
-        if (image == null) return;
-        
+        Map<Direction, SpriteAnimation> animations = chef.isMoving() ? chefMoveAnimations : chefIdleAnimations;
         
-        gc.save();
         
-        switch (direction) {
-            case RIGHT:
-                
-                gc.drawImage(image, x, y, size, size);
-                break;
-                
-            case LEFT:
-                
-                gc.translate(x + size, y);  
-                gc.scale(-1, 1);             
-                gc.drawImage(image, 0, 0, size, size);
-                break;
-                
-            case UP:
-                
-                gc.drawImage(image, x, y, size, size);
-                break;
-
-            case DOWN:
-                
-                gc.drawImage(image, x, y, size, size);
-                break;
-                
-            default:
-                gc.drawImage(image, x, y, size, size);
+        SpriteAnimation animation = animations.get(dir);
+        if (animation == null) {
+            animation = animations.get(Direction.RIGHT);
+        }
+        if (animation == null) {
+            animation = chefIdleAnimations.get(Direction.RIGHT);
+        }
+        if (animation == null) {
+            return null;
         }
         
         
-        gc.restore();
+        long animationMs = frameQuality.hasChefAnimation() ? simulation.getTickCount() * GameConfig.FIXED_TIMESTEP_MS : 0;
+        return animation.frameAt(animationMs, dir == Direction.LEFT);
     }
 
+
         
     private void loadMap(String stageId) {
-        try {
-            MapLoader loader = new MapLoader();
-            MapLoadResult result = loader.load(stageId);
-            
-            this.tileManager = result.getTileManager();
-            this.spawnPositions = result.getSpawnPositions();
-            
-            
-            if (tileManager.getWidth() > 0 && tileManager.getHeight() > 0) {
-                double tileSizeByWidth = WINDOW_WIDTH / tileManager.getWidth();
-                double tileSizeByHeight = WINDOW_HEIGHT / tileManager.getHeight();
-                tileSize = Math.min(tileSizeByWidth, tileSizeByHeight);
-                
-                
-                tileSize = tileSize * GameConfig.TILE_SIZE_SCALE; 
-            }
-            
-            System.out.println("Map loaded: " + stageId);
-            System.out.println("Map size: " + tileManager.getWidth() + "x" + tileManager.getHeight());
-            System.out.println("Tile size: " + tileSize);
-            System.out.println("Spawn positions: " + spawnPositions.size());
-            
-            
-            if (!spawnPositions.isEmpty()) {
-                
-                Position spawnPos1 = spawnPositions.get(0);
-                playerChef = new Chef("player1", "Chef 1", spawnPos1, Direction.RIGHT);
-                chefIsMoving.put(playerChef, false); 
-                
-                
-                Tile spawnTile1 = tileManager.getTileAt(spawnPos1);
-                if (spawnTile1 != null) {
-                    spawnTile1.setChefOnTile(playerChef);
-                }
-                
-                System.out.println("Chef 1 spawned at: (" + spawnPos1.getX() + ", " + spawnPos1.getY() + ")");
-                
-                
-                Position spawnPos2;
-                if (spawnPositions.size() > 1) {
-                    spawnPos2 = spawnPositions.get(1);
-                } else {
-                    
-                    spawnPos2 = new Position(spawnPos1.getX() + 1, spawnPos1.getY());
-                    
-                    if (!tileManager.isInBounds(spawnPos2) || !tileManager.isWalkable(spawnPos2)) {
-                        spawnPos2 = new Position(spawnPos1.getX(), spawnPos1.getY() + 1);
-                    }
-                }
-                
-                chef2 = new Chef("player2", "Chef 2", spawnPos2, Direction.RIGHT);
-                chefIsMoving.put(chef2, false); 
-                
-                
-                Tile spawnTile2 = tileManager.getTileAt(spawnPos2);
-                if (spawnTile2 != null) {
-                    spawnTile2.setChefOnTile(chef2);
-                }
-                
-                System.out.println("Chef 2 spawned at: (" + spawnPos2.getX() + ", " + spawnPos2.getY() + ")");
-                
-                
-                activeChef = playerChef;
-                
-                
-                chefRenderX = spawnPos1.getX();
-                chefRenderY = spawnPos1.getY();
-                chefTargetX = spawnPos1.getX();
-                chefTargetY = spawnPos1.getY();
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to load map: " + stageId);
-            e.printStackTrace();
-            
+        this.simulation = new GameSimulation(stageId);
+        this.simulation.setSoundPlayer(name -> Platform.runLater(() -> SoundManager.getInstance().playSoundEffect(name)));
+        this.tileManager = simulation.getTileManager();
+        
+        if (tileManager == null) {
+            return;
+        }
+        
+        if (tileManager.getWidth() > 0 && tileManager.getHeight() > 0) {
+            double tileSizeByWidth = WINDOW_WIDTH / tileManager.getWidth();
+            double tileSizeByHeight = WINDOW_HEIGHT / tileManager.getHeight();
+            tileSize = Math.min(tileSizeByWidth, tileSizeByHeight);
             
-            Tile[][] emptyTiles = new Tile[10][10];
-            for (int y = 0; y < 10; y++) {
-                for (int x = 0; x < 10; x++) {
-                    
-                    
-                }
-            }
             
+            tileSize = tileSize * GameConfig.TILE_SIZE_SCALE; 
+            tileSize = Math.max(tileSize, GameConfig.MIN_TILE_SIZE);
         }
+        camera.setMap(tileManager.getWidth(), tileManager.getHeight(), tileSize);
+        
+        System.out.println("Tile size: " + tileSize);
     }
 
     private void setupGameLoop() {
@@ -569,198 +535,371 @@ public class GameScreen {
                     return;
                 }
                 
-                long deltaTime = (now - lastUpdate) / 1_000_000; 
+                long frameNanos = now - lastUpdate;
                 lastUpdate = now;
                 
-                update(deltaTime);
-                render();
+                update(frameNanos, now);
             }
         };
     }
 
         
-    private void update(long deltaTime) {
+    private void update(long frameNanos, long now) {
+        pendingFrameNanos += frameNanos;
+        qualityController.recordPulse(frameNanos);
+        if (pendingFrame != null && !pendingFrame.isDone()) {
+            return;
+        }
         
-        if (gameState.isGameOver()) {
+        Frame frame = takePendingFrame();
+        if (frame != null && frame.gameOver) {
             showResultScreen();
             return;
         }
         
         
-        gameState.update();
+        long nanos = pendingFrameNanos;
+        pendingFrameNanos = 0;
+        pendingFrame = taskExecutor.submitTask(() -> produceFrame(nanos, now));
         
-        
-        if (isPaused) {
-            return;
+        if (frame != null) {
+            long renderStart = System.nanoTime();
+            render(frame);
+            long workNanos = Math.max(frame.workNanos, System.nanoTime() - renderStart);
+            RenderQuality previous = quality;
+            RenderQuality next = GameConfig.ADAPTIVE_QUALITY ? qualityController.record(nanos, workNanos) : null;
+            if (next != null) {
+                applyQuality(next);
+                addLog("Render quality: " + previous.getDisplayName() + " -> " + next.getDisplayName());
+            }
         }
+    }
+    
+    
         
-        
-        if (orderManager != null) {
-            orderManager.update(deltaTime);
-            long currentTime = System.currentTimeMillis();
-            orderManager.trySpawnNewOrder(currentTime);
+    private void applyQuality(RenderQuality next) {
+        double scale = next.getRenderScale();
+        for (Canvas canvas : new Canvas[] { mapCanvas, entityCanvas }) {
+            canvas.setWidth(Math.ceil(WINDOW_WIDTH * scale));
+            canvas.setHeight(Math.ceil(WINDOW_HEIGHT * scale));
+            canvas.setScaleX(1 / scale);
+            canvas.setScaleY(1 / scale);
+            canvas.getGraphicsContext2D().setTransform(scale, 0, 0, scale, 0, 0);
+        }
+        quality = next;
+    }
+    
+    
+    private Frame takePendingFrame() {
+        if (pendingFrame == null) {
+            return null;
+        }
+        try {
+            return pendingFrame.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            System.err.println("[GameScreen] Frame production failed: " + e.getCause());
+            e.getCause().printStackTrace();
+            return null;
+        } finally {
+            pendingFrame = null;
         }
+    }
+    
+    
         
+    private Frame produceFrame(long frameNanos, long now) {
+        long workStart = System.nanoTime();
+        frameQuality = quality;
+        Runnable command;
+        while ((command = simulationCommands.poll()) != null) {
+            command.run();
+        }
         
-        handleChefMovement(System.nanoTime());
+        Frame frame = new Frame();
+        if (simulation.getGameState().isGameOver()) {
+            frame.gameOver = true;
+            return frame;
+        }
+        simulation.advance(frameNanos);
         
         
-        if (activeChef != null) {
-            double dx = chefTargetX - chefRenderX;
-            double dy = chefTargetY - chefRenderY;
+        if (tileManager != null) {
+            camera.follow(simulation.getChefs(), simulation.getActiveChef(), simulation.getInterpolationAlpha());
+            double offsetX = camera.getOffsetX();
+            double offsetY = camera.getOffsetY();
             
-            if (Math.abs(dx) > 0.01 || Math.abs(dy) > 0.01) {
-                chefRenderX += dx * GameConfig.MOVE_SPEED;
-                chefRenderY += dy * GameConfig.MOVE_SPEED;
-            } else {
-                chefRenderX = chefTargetX;
-                chefRenderY = chefTargetY;
-                
-                
-                chefIsMoving.put(activeChef, false);
+            if (staticLayerTileSize != tileSize || staticLayerOffsetX != offsetX || staticLayerOffsetY != offsetY
+                || staticLayerQuality != frameQuality) {
+                frame.mapLayer = buildStaticLayer(offsetX, offsetY);
             }
+            frame.entityLayer = buildEntityLayer(offsetX, offsetY, now);
+            frame.progressLayer = buildProgressLayer(offsetX, offsetY);
+            frame.hudY = camera.getViewportY() + camera.getVisibleHeight() + 30;
         }
+        frame.orders = collectOrders(now);
         
         
-        if (tileManager != null) {
-            Tile[][] tiles = tileManager.getTiles();
-            for (int y = 0; y < tileManager.getHeight(); y++) {
-                for (int x = 0; x < tileManager.getWidth(); x++) {
-                    Tile tile = tiles[y][x];
-                    if (tile != null && tile.getStation() != null) {
-                        tile.getStation().update(deltaTime);
-                    }
-                }
-            }
+        Chef activeChef = simulation.getActiveChef();
+        if (activeChef != null) {
+            frame.handContent = activeChef.getInventory() != null ? 
+                                activeChef.getInventory().getName() : 
+                                "Kosong";
         }
+        frame.score = getGameState().getScore().getCurrentScore();
+        frame.timeText = getGameState().getTimer().getFormattedRemainingTime();
+        frame.logVersion = simulation.getLogVersion();
+        if (frame.logVersion != producedLogVersion) {
+            producedLogVersion = frame.logVersion;
+            producedLogs = new ArrayList<>(simulation.getLogs());
+        }
+        frame.logs = producedLogs;
+        frame.paused = simulation.isPaused();
+        frame.workNanos = System.nanoTime() - workStart;
+        return frame;
+    }
+    
+    
+    private void runOnSimulation(Runnable command) {
+        simulationCommands.add(command);
     }
 
         
-    private void render() {
-        
-        gc.setFill(Color.web("#1a1a1a"));
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
-        
-        if (tileManager == null) return;
-        
-        
-        if (playerChef != null) {
-            ensureChefTileTracking(playerChef);
+    private void render(Frame frame) {
+        if (frame.mapLayer != null) {
+            replayStaticLayer(frame.mapLayer);
+        }
+        if (frame.entityLayer != null) {
+            replayEntityLayer(frame.entityLayer);
+        }
+        if (frame.progressLayer != null) {
+            replayProgressLayer(frame.progressLayer);
         }
-        if (chef2 != null) {
-            ensureChefTileTracking(chef2);
+        if (frame.orders != null) {
+            renderOrderLayer(frame.orders);
+        }
+        renderHudLayer(frame);
+        renderOverlayLayer(frame.paused);
+    }
+    
+    
+    private void replayStaticLayer(DrawList layer) {
+        spriteCache.setTileSize(tileSize);
+        mapGc.setFill(Color.web("#1a1a1a"));
+        mapGc.fillRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+        mapGc.save();
+        clipToViewport(mapGc);
+        layer.replay(mapGc, spriteCache);
+        mapGc.restore();
+    }
+    
+    
+    private void replayEntityLayer(DrawList layer) {
+        if (!layer.hasClip()) {
+            return;
         }
+        gc.save();
+        clipToViewport(gc);
+        layer.clip(gc);
+        gc.clearRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+        layer.replay(gc, spriteCache);
+        gc.restore();
+    }
+    
+    
+    private void replayProgressLayer(DrawList layer) {
+        progressGc.clearRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+        progressGc.save();
+        clipToViewport(progressGc);
+        layer.replay(progressGc, spriteCache);
+        progressGc.restore();
+    }
+    
+        
+    private DrawList buildEntityLayer(double offsetX, double offsetY, long now) {
+        int width = tileManager.getWidth();
+        int height = tileManager.getHeight();
         
         
-        double mapWidth = tileManager.getWidth() * tileSize;
-        double mapHeight = tileManager.getHeight() * tileSize;
+        long stationRefreshMs = frameQuality.getStationRefreshMs();
+        tileManager.drainDirtyTiles(dirtyTiles);
+        if (stationRefreshMs > 0) {
+            tileManager.drainProgressTiles(deferredTiles);
+            deferredTiles.andNot(dirtyTiles);
+            if (now - lastStationFlushNanos >= stationRefreshMs * 1_000_000L) {
+                lastStationFlushNanos = now;
+                dirtyTiles.or(deferredTiles);
+                dirtyTiles.or(animatedTiles);
+                deferredTiles.clear();
+            }
+        } else {
+            tileManager.drainProgressTiles(dirtyTiles);
+            dirtyTiles.or(deferredTiles);
+            dirtyTiles.or(animatedTiles);
+            deferredTiles.clear();
+        }
         
+        List<Chef> chefs = simulation.getChefs();
+        double alpha = simulation.getInterpolationAlpha();
+        for (Chef chef : chefs) {
+            markChefRegion(chef, alpha, width, height);
+        }
         
-        double offsetX = (WINDOW_WIDTH - mapWidth) / 2; 
+        if (dirtyTiles.isEmpty()) {
+            return DrawList.EMPTY;
+        }
         
         
-        double mapTopMargin = 40; 
-        double offsetY = mapTopMargin;
+        for (int index = dirtyTiles.nextSetBit(0); index >= 0; index = dirtyTiles.nextSetBit(index + 1)) {
+            int x = index % width;
+            int y = index / width;
+            if (!camera.isVisible(x, y)) continue;
+            draw.clipRect(offsetX + x * tileSize - 1, offsetY + y * tileSize - 1, tileSize + 2, tileSize + 2);
+            
+            
+            for (int ny = Math.max(0, y - 1); ny <= Math.min(height - 1, y + 1); ny++) {
+                for (int nx = Math.max(0, x - 1); nx <= Math.min(width - 1, x + 1); nx++) {
+                    redrawTiles.set(ny * width + nx);
+                }
+            }
+        }
         
         
         Tile[][] tiles = tileManager.getTiles();
-        for (int y = 0; y < tileManager.getHeight(); y++) {
-            for (int x = 0; x < tileManager.getWidth(); x++) {
-                Tile tile = tiles[y][x];
-                if (tile == null) continue;
-                
-                double screenX = offsetX + x * tileSize;
-                double screenY = offsetY + y * tileSize;
-                
-                
-                if (tile.isWall()) {
-                    if (wallImage != null) {
-                        gc.drawImage(wallImage, screenX, screenY, tileSize, tileSize);
-                    } else {
-                        
-                        gc.setFill(Color.web("#2d2d2d"));
-                        gc.fillRect(screenX, screenY, tileSize, tileSize);
-                    }
-                } else {
-                    if (floorImage != null) {
-                        gc.drawImage(floorImage, screenX, screenY, tileSize, tileSize);
-                    } else {
-                        
-                        gc.setFill(Color.web("#e8dcc8"));
-                        gc.fillRect(screenX, screenY, tileSize, tileSize);
-                    }
-                }
-                
-                
-                Station station = tile.getStation();
-                if (station != null) {
-                    Image stationImg = getStationImage(station);
-                    if (stationImg != null) {
-                        gc.drawImage(stationImg, screenX, screenY, tileSize, tileSize);
-                    } else {
-                        
-                        gc.setFill(Color.web("#ff6b35"));
-                        double padding = tileSize * 0.1;
-                        gc.fillRect(screenX + padding, screenY + padding, 
-                                    tileSize - padding * 2, tileSize - padding * 2);
-                        
-                        
-                        gc.setFill(Color.WHITE);
-                        gc.setFont(javafx.scene.text.Font.font(tileSize * 0.3));
-                        String initial = station.getClass().getSimpleName().substring(0, 1);
-                        gc.fillText(initial, screenX + tileSize * 0.4, screenY + tileSize * 0.6);
-                    }
-                    
-                    
-                    renderItemsOnStation(station, screenX, screenY, tileSize);
+        for (int index = redrawTiles.nextSetBit(0); index >= 0; index = redrawTiles.nextSetBit(index + 1)) {
+            int x = index % width;
+            int y = index / width;
+            Tile tile = tiles[y][x];
+            if (tile == null) continue;
             
-                } else {
-                    
-                    if (tile.getItemOnTile() != null) {
-                        renderItemOnTile(tile.getItemOnTile(), screenX, screenY, tileSize);
-                    }
+            double screenX = offsetX + x * tileSize;
+            double screenY = offsetY + y * tileSize;
+            
+            
+            Station station = tile.getStation();
+            if (station != null) {
+                if (isAnimatedStation(station)) {
+                    drawStationBase(draw, station, screenX, screenY);
                 }
+                renderItemsOnStation(station, screenX, screenY, tileSize);
+            } else if (tile.getItemOnTile() != null) {
+                renderItemOnTile(tile.getItemOnTile(), screenX, screenY, tileSize);
             }
         }
         
         
-        if (playerChef != null) {
-            drawChef(playerChef, offsetX, offsetY, playerChef == activeChef);
-        }
-        if (chef2 != null) {
-            drawChef(chef2, offsetX, offsetY, chef2 == activeChef);
+        for (Chef chef : chefs) {
+            drawChef(chef, offsetX, offsetY);
         }
         
-
+        dirtyTiles.clear();
+        redrawTiles.clear();
+        return draw.build();
+    }
+    
+    
         
+    private void markChefRegion(Chef chef, double alpha, int width, int height) {
+        double drawX = chef.getInterpolatedRenderX(alpha);
+        double drawY = chef.getInterpolatedRenderY(alpha);
         
         
-        double fixedLogX = 20;
+        int minX = Math.max(0, (int) Math.floor(drawX));
+        int maxX = Math.min(width - 1, (int) Math.ceil(drawX));
+        int minY = Math.max(0, (int) Math.floor(drawY) - 1);
+        int maxY = Math.min(height - 1, (int) Math.ceil(drawY));
         
+        int[] region = chefRegions.computeIfAbsent(chef, c -> new int[] { minX, minY, maxX, maxY });
+        markRegion(region, width);
+        region[0] = minX;
+        region[1] = minY;
+        region[2] = maxX;
+        region[3] = maxY;
+        markRegion(region, width);
+    }
+    
+    
+    private void markRegion(int[] region, int width) {
+        for (int y = region[1]; y <= region[3]; y++) {
+            dirtyTiles.set(y * width + region[0], y * width + region[2] + 1);
+        }
+    }
+    
+    
         
-        double hudYStart = offsetY + mapHeight + 30; 
+    private List<Order> collectOrders(long now) {
+        List<Order> orders = simulation.getOrderManager().getActiveOrders();
         
+        boolean changed = orders.size() != lastRenderedOrders.size();
+        for (int i = 0; i < orders.size() && !changed; i++) {
+            Order order = orders.get(i);
+            changed = order != lastRenderedOrders.get(i) || (order.getOpacity() < 1.0f && frameQuality.hasOrderFade());
+        }
         
-        gc.setTextAlign(TextAlignment.LEFT);
+        if (!changed && now - lastOrderRedrawNanos < GameConfig.ORDER_PANEL_REFRESH_MS * 1_000_000L) {
+            return null;
+        }
+        lastOrderRedrawNanos = now;
+        lastRenderedOrders = orders;
         
-        if (activeChef != null) {
-            String handContent = activeChef.getInventory() != null ? 
-                                activeChef.getInventory().getName() : 
-                                "Kosong";
-            
-            gc.setFill(Color.web("#F2C38F")); 
-            gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, 18));
-            gc.fillText("Hand: " + handContent, fixedLogX, hudYStart);
+        List<Order> copies = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            copies.add(order.copy());
         }
+        return copies;
+    }
+    
+    
+    private void renderOrderLayer(List<Order> orders) {
+        orderGc.clearRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+        double orderPanelY = 20; 
+        OrderDisplay.renderOrders(orderGc, orders, WINDOW_WIDTH, orderPanelY, itemImages, spriteCache);
+    }
+    
+    
         
+    private void renderHudLayer(Frame frame) {
+        double hudYStart = frame.hudY;
+        String handContent = frame.handContent;
+        int score = frame.score;
+        String timeText = frame.timeText;
+        long logVersion = frame.logVersion;
         
+        if (logVersion == lastLogVersion && score == lastHudScore
+            && Objects.equals(handContent, lastHandContent) && timeText.equals(lastHudTime)) {
+            return;
+        }
+        lastLogVersion = logVersion;
+        lastHudScore = score;
+        lastHandContent = handContent;
+        lastHudTime = timeText;
         
+        GraphicsContext gc = hudGc;
+        gc.clearRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+    
+    
+        
+double fixedLogX = 20;
+        
+        
+        gc.setTextAlign(TextAlignment.LEFT);
+        
+        if (handContent != null) {
+            gc.setFill(Color.web("#F2C38F")); 
+            gc.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, 18));
+            gc.fillText("Hand: " + handContent, fixedLogX, hudYStart);
+        }
+    
+    
         
-        double logYStart = hudYStart + 20; 
+double logYStart = hudYStart + 20; 
         
-    gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, 16));
+    gc.setFont(FontCache.get(16));
         
         
+        List<String> onScreenLogs = frame.logs;
         for (int i = 0; i < onScreenLogs.size(); i++) {
             String logMsg = onScreenLogs.get(i);
             
@@ -773,22 +912,115 @@ public class GameScreen {
         
         
         
-        renderGameUI();
+        renderGameUI(score, timeText);
+    }
+    
+    
+        
+    private void renderOverlayLayer(boolean paused) {
+        if (paused == overlayShown) {
+            return;
+        }
+        overlayShown = paused;
+        
+        overlayGc.clearRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+        if (paused) {
+            renderPauseMenu();
+        }
+    }
 
+    private DrawList buildStaticLayer(double offsetX, double offsetY) {
+        animatedTiles.clear();
         
-        if (orderManager != null) {
+        Tile[][] tiles = tileManager.getTiles();
+        for (int y = camera.getMinTileY(); y <= camera.getMaxTileY(); y++) {
+            for (int x = camera.getMinTileX(); x <= camera.getMaxTileX(); x++) {
+                Tile tile = tiles[y][x];
+                if (tile == null) continue;
+                
+                double screenX = offsetX + x * tileSize;
+                double screenY = offsetY + y * tileSize;
+                
+                
+                if (tile.isWall()) {
+                    if (wallImage != null) {
+                        mapDraw.drawImage(wallImage, screenX, screenY, tileSize, tileSize);
+                    } else {
+                        
+                        mapDraw.setFill(Color.web("#2d2d2d"));
+                        mapDraw.fillRect(screenX, screenY, tileSize, tileSize);
+                    }
+                } else {
+                    if (floorImage != null) {
+                        mapDraw.drawImage(floorImage, screenX, screenY, tileSize, tileSize);
+                    } else {
+                        
+                        mapDraw.setFill(Color.web("#e8dcc8"));
+                        mapDraw.fillRect(screenX, screenY, tileSize, tileSize);
+                    }
+                }
+            }
+        }
+        
+        
+        for (Station station : simulation.getStationRegistry().getAll()) {
+            Position pos = station.getPosition();
+            if (!camera.isVisible(pos.getX(), pos.getY())) continue;
             
-            double orderPanelY = 20; 
-            OrderDisplay.renderOrders(gc, orderManager.getActiveOrders(), WINDOW_WIDTH, orderPanelY, itemImages);
+            if (isAnimatedStation(station)) {
+                animatedTiles.set(pos.getY() * tileManager.getWidth() + pos.getX());
+            } else {
+                drawStationBase(mapDraw, station, offsetX + pos.getX() * tileSize, offsetY + pos.getY() * tileSize);
+            }
         }
         
+        if (staticLayerTileSize != tileSize) {
+            System.out.println("Static map layer rendered at tile size " + tileSize);
+        }
+        staticLayerTileSize = tileSize;
+        staticLayerQuality = frameQuality;
+        staticLayerOffsetX = offsetX;
+        staticLayerOffsetY = offsetY;
+        for (int y = camera.getMinTileY(); y <= camera.getMaxTileY(); y++) {
+            dirtyTiles.set(y * tileManager.getWidth() + camera.getMinTileX(), y * tileManager.getWidth() + camera.getMaxTileX() + 1);
+        }
+        return mapDraw.build();
+    }
+    
+    
+    private void clipToViewport(GraphicsContext target) {
+        target.beginPath();
+        target.rect(camera.getViewportX(), camera.getViewportY(), camera.getViewportWidth(), camera.getViewportHeight());
+        target.clip();
+    }
+    
+    
         
-        if (isPaused) {
-            renderPauseMenu();
+    private boolean isAnimatedStation(Station station) {
+        return station instanceof ServingStation;
+    }
+    
+    
+    private void drawStationBase(DrawList.Builder target, Station station, double screenX, double screenY) {
+        Image stationImg = getStationImage(station);
+        if (stationImg != null) {
+            target.drawImage(stationImg, screenX, screenY, tileSize, tileSize);
+        } else {
+            
+            target.setFill(Color.web("#ff6b35"));
+            double padding = tileSize * 0.1;
+            target.fillRect(screenX + padding, screenY + padding, 
+                        tileSize - padding * 2, tileSize - padding * 2);
+            
+            
+            target.setFill(Color.WHITE);
+            target.setFont(FontCache.get(tileSize * 0.3));
+            String initial = station.getClass().getSimpleName().substring(0, 1);
+            target.fillText(initial, screenX + tileSize * 0.4, screenY + tileSize * 0.6);
         }
-
     }
-
+    
+    
     private Image getStationImage(Station station) {
         if (station instanceof CookingStation) {
             
@@ -1156,63 +1388,37 @@ public class GameScreen {
     
     
         
-    private void renderCuttingProgressBar(CuttingStation cs, double screenX, double screenY, double tileSize) {
-        float progressRatio = cs.getProgressRatio();
-        if (progressRatio <= 0) {
-            return;
+    private DrawList buildProgressLayer(double offsetX, double offsetY) {
+        progressOverlay.begin(tileSize);
+        StationRegistry stations = simulation.getStationRegistry();
+        for (CuttingStation cs : stations.getAll(CuttingStation.class)) {
+            Position pos = cs.getPosition();
+            if (camera.isVisible(pos.getX(), pos.getY()) && cs.getPlacedItem() != null
+                && cs.isActive() && cs.getProgressRatio() > 0) {
+                progressOverlay.add(offsetX + pos.getX() * tileSize, offsetY + pos.getY() * tileSize,
+                    cs.getProgressRatio(), CUTTING_PROGRESS_COLOR);
+            }
         }
-        
-        
-        double barWidth = tileSize * 0.6;
-        double barHeight = tileSize * 0.08;
-        double barX = screenX + (tileSize - barWidth) / 2;
-        double barY = screenY + tileSize - barHeight - 5; 
-        
-        
-        gc.setFill(Color.web("#333333"));
-        gc.fillRect(barX, barY, barWidth, barHeight);
-        
-        
-        gc.setFill(Color.web("#FFD700")); 
-        gc.fillRect(barX, barY, barWidth * progressRatio, barHeight);
-        
-        
-        gc.setStroke(Color.WHITE);
-        gc.setLineWidth(1);
-        gc.strokeRect(barX, barY, barWidth, barHeight);
-    }
-    
-    
-        
-    private void renderWashingProgressBar(WashingStation ws, double screenX, double screenY, double tileSize) {
-        float progressRatio = ws.getProgressRatio();
-        if (progressRatio <= 0) {
-            return;
+        for (WashingStation ws : stations.getAll(WashingStation.class)) {
+            Position pos = ws.getPosition();
+            if (camera.isVisible(pos.getX(), pos.getY())
+                && ws.isActive() && ws.getProgressRatio() > 0) {
+                progressOverlay.add(offsetX + pos.getX() * tileSize, offsetY + pos.getY() * tileSize,
+                    ws.getProgressRatio(), WASHING_PROGRESS_COLOR);
+            }
         }
-        
-        
-        double barWidth = tileSize * 0.6;
-        double barHeight = tileSize * 0.08;
-        double barX = screenX + (tileSize - barWidth) / 2;
-        double barY = screenY + tileSize - barHeight - 5; 
-        
-        
-        gc.setFill(Color.web("#333333"));
-        gc.fillRect(barX, barY, barWidth, barHeight);
-        
-        
-        gc.setFill(Color.web("#00AAFF")); 
-        gc.fillRect(barX, barY, barWidth * progressRatio, barHeight);
-        
-        
-        gc.setStroke(Color.WHITE);
-        gc.setLineWidth(1);
-        gc.strokeRect(barX, barY, barWidth, barHeight);
+        for (CookingStation cs : stations.getAll(CookingStation.class)) {
+            Position pos = cs.getPosition();
+            if (camera.isVisible(pos.getX(), pos.getY())) {
+                addCookingProgress(cs, offsetX + pos.getX() * tileSize, offsetY + pos.getY() * tileSize);
+            }
+        }
+        return progressOverlay.build(progressDraw);
     }
     
     
         
-    private void renderCookingProgressBar(CookingStation cs, double screenX, double screenY, double tileSize) {
+    private void addCookingProgress(CookingStation cs, double screenX, double screenY) {
         if (cs.getUtensils() == null || cs.getUtensils().getContents().isEmpty()) {
             return;
         }
@@ -1227,55 +1433,18 @@ public class GameScreen {
         nimons.entity.item.IngredientState state = ingredient.getState();
         
         
-        if (state != nimons.entity.item.IngredientState.COOKING && 
-            state != nimons.entity.item.IngredientState.COOKED) {
-            return;
-        }
-        
-        
-        double barWidth = tileSize * 0.6;
-        double barHeight = tileSize * 0.08;
-        double barX = screenX + (tileSize - barWidth) / 2;
-        double barY = screenY + tileSize - barHeight - 5; 
-        
-        
-        gc.setFill(Color.web("#333333"));
-        gc.fillRect(barX, barY, barWidth, barHeight);
-        
-        
         if (state == nimons.entity.item.IngredientState.COOKING) {
-            
             float requiredTime = ingredient.getRequiredCookingTime();
             float currentTime = ingredient.getCurrentCookingTime();
             float ratio = requiredTime > 0 ? Math.min(1.0f, currentTime / requiredTime) : 0;
-            
-            gc.setFill(Color.web("#00AA00")); 
-            gc.fillRect(barX, barY, barWidth * ratio, barHeight);
+            progressOverlay.add(screenX, screenY, ratio, COOKING_PROGRESS_COLOR);
             
         } else if (state == nimons.entity.item.IngredientState.COOKED) {
-            
-            float requiredCookTime = ingredient.getRequiredCookingTime();
-            float totalTime = ingredient.getTotalCookingTime(); 
-            
-            
-            
-            float burnPhaseElapsed = Math.max(0, totalTime - requiredCookTime);
+            float burnPhaseElapsed = Math.max(0, ingredient.getTotalCookingTime() - ingredient.getRequiredCookingTime());
             float burnPhaseTotal = (float) GameConfig.TIME_TO_BURN_MS;
             float burnRatio = burnPhaseTotal > 0 ? Math.min(1.0f, burnPhaseElapsed / burnPhaseTotal) : 0;
-            
-            
-            System.out.println("[BURN] totalTime=" + totalTime + ", required=" + requiredCookTime + 
-                             ", elapsed=" + burnPhaseElapsed + ", total=" + burnPhaseTotal + ", ratio=" + burnRatio);
-            
-            
-            gc.setFill(Color.web("#FFD700")); 
-            gc.fillRect(barX, barY, barWidth * burnRatio, barHeight);
+            progressOverlay.add(screenX, screenY, burnRatio, BURNING_PROGRESS_COLOR);
         }
-        
-        
-        gc.setStroke(Color.WHITE);
-        gc.setLineWidth(1);
-        gc.strokeRect(barX, barY, barWidth, barHeight);
     }
     
     
@@ -1289,11 +1458,6 @@ public class GameScreen {
             nimons.entity.item.Item placedItem = cs.getPlacedItem();
             if (placedItem != null) {
                 renderItemOnTile(placedItem, screenX, screenY, tileSize);
-                
-                
-                if (cs.isActive()) {
-                    renderCuttingProgressBar(cs, screenX, screenY, tileSize);
-                }
             }
         }
         
@@ -1307,34 +1471,13 @@ public class GameScreen {
                 boolean hasContents = utensil.getContents() != null && !utensil.getContents().isEmpty();
                 
                 
-                boolean isStillCooking = false;
-                boolean isInBurnPhase = false;
-                
                 if (hasContents) {
-                    for (nimons.entity.item.interfaces.Preparable prep : utensil.getContents()) {
-                        if (prep instanceof nimons.entity.item.Ingredient) {
-                            nimons.entity.item.Ingredient ing = (nimons.entity.item.Ingredient) prep;
-                            if (ing.getState() == nimons.entity.item.IngredientState.COOKING) {
-                                isStillCooking = true;
-                            }
-                            if (ing.getState() == nimons.entity.item.IngredientState.COOKED) {
-                                isInBurnPhase = true;
-                            }
-                        }
-                    }
-                    
-                    
                     Image utensilImg = getUtensilStateImage(utensil);
                     if (utensilImg != null) {
                         double itemSize = tileSize * 0.5;
                         double itemX = screenX + (tileSize - itemSize) / 2;
                         double itemY = screenY + (tileSize - itemSize) / 2 - tileSize * 0.1; 
-                        gc.drawImage(utensilImg, itemX, itemY, itemSize, itemSize);
-                    }
-                    
-                    
-                    if (isStillCooking || isInBurnPhase) {
-                        renderCookingProgressBar(cs, screenX, screenY, tileSize);
+                        draw.drawImage(utensilImg, itemX, itemY, itemSize, itemSize);
                     }
                 } else {
                     
@@ -1349,7 +1492,7 @@ public class GameScreen {
                         double itemSize = tileSize * 0.5;
                         double itemX = screenX + (tileSize - itemSize) / 2;
                         double itemY = screenY + (tileSize - itemSize) / 2 - tileSize * 0.1; 
-                        gc.drawImage(emptyImg, itemX, itemY, itemSize, itemSize);
+                        draw.drawImage(emptyImg, itemX, itemY, itemSize, itemSize);
                     }
                 }
             }
@@ -1384,36 +1527,26 @@ public class GameScreen {
                     
                     for (int i = 0; i < visualCount; i++) {
                         double plateY = baseY - (i * stackOffset);
-                        gc.drawImage(plateImg, plateX, plateY, plateSize, plateSize);
+                        draw.drawImage(plateImg, plateX, plateY, plateSize, plateSize);
                     }
                     
                     
                     if (plateCount > 4) {
-                        gc.setFill(Color.WHITE);
-                        gc.setStroke(Color.BLACK);
-                        gc.setLineWidth(2);
-                        gc.setFont(javafx.scene.text.Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, tileSize * 0.3));
+                        draw.setFill(Color.WHITE);
+                        draw.setStroke(Color.BLACK);
+                        draw.setLineWidth(2);
+                        draw.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, tileSize * 0.3));
                         String countText = String.valueOf(plateCount);
                         double textX = screenX + tileSize * 0.7;
                         double textY = screenY + tileSize * 0.35;
-                        gc.strokeText(countText, textX, textY);
-                        gc.fillText(countText, textX, textY);
+                        draw.strokeText(countText, textX, textY);
+                        draw.fillText(countText, textX, textY);
                     }
                 }
             }
         }
         
         
-        if (station instanceof WashingStation) {
-            WashingStation ws = (WashingStation) station;
-            
-            
-            if (ws.isActive()) {
-                renderWashingProgressBar(ws, screenX, screenY, tileSize);
-            }
-        }
-        
-        
         if (station instanceof nimons.entity.station.Rack) {
             nimons.entity.station.Rack rack = (nimons.entity.station.Rack) station;
             
@@ -1433,20 +1566,20 @@ public class GameScreen {
                     
                     for (int i = 0; i < visualCount; i++) {
                         double plateY = baseY - (i * stackOffset);
-                        gc.drawImage(plateImg, plateX, plateY, plateSize, plateSize);
+                        draw.drawImage(plateImg, plateX, plateY, plateSize, plateSize);
                     }
                     
                     
                     if (plateCount > 4) {
-                        gc.setFill(Color.WHITE);
-                        gc.setStroke(Color.BLACK);
-                        gc.setLineWidth(2);
-                        gc.setFont(javafx.scene.text.Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, tileSize * 0.3));
+                        draw.setFill(Color.WHITE);
+                        draw.setStroke(Color.BLACK);
+                        draw.setLineWidth(2);
+                        draw.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, tileSize * 0.3));
                         String countText = String.valueOf(plateCount);
                         double textX = screenX + tileSize * 0.7;
                         double textY = screenY + tileSize * 0.35;
-                        gc.strokeText(countText, textX, textY);
-                        gc.fillText(countText, textX, textY);
+                        draw.strokeText(countText, textX, textY);
+                        draw.fillText(countText, textX, textY);
                     }
                 }
             }
@@ -1474,7 +1607,7 @@ public class GameScreen {
             double itemSize = tileSize * 0.6;
             double itemX = screenX + (tileSize - itemSize) / 2;
             double itemY = screenY + (tileSize - itemSize) / 2;
-            gc.drawImage(itemImg, itemX, itemY, itemSize, itemSize);
+            draw.drawImage(itemImg, itemX, itemY, itemSize, itemSize);
         } else {
             System.out.println("WARNING: No image found for item: " + item.getName() + " (type: " + item.getClass().getSimpleName() + ")");
         }
@@ -1483,36 +1616,22 @@ public class GameScreen {
         
     public void start() {
         
-        gameState.reset();
-        orderManager.reset();
-        
+        simulation.start();
+        simulation.startRecording();
         
-        onScreenLogs.clear();
         
-        
-        isPaused = false;
         moveUp = false;
         moveDown = false;
         moveLeft = false;
         moveRight = false;
-        shiftPressed = false;
         
         
         taskExecutor = GameTaskExecutor.getInstance();
-        orderGeneratorTask = new OrderGeneratorTask(orderManager, GameConfig.ORDER_SPAWN_INTERVAL_MS);
-        orderGeneratorThread = new Thread(orderGeneratorTask, "OrderGenerator");
-        orderGeneratorThread.setDaemon(true); 
-        orderGeneratorThread.start();
-        addLog("✓ Background order generation started");
         
         Scene scene = new Scene(rootPane, WINDOW_WIDTH, WINDOW_HEIGHT);
         scene.getStylesheets().add(getClass().getResource("/styles/mainmenu.css").toExternalForm());
         
         
-        List<Recipe> recipes = createDummyRecipes();
-        orderManager.setAvailableRecipes(recipes);
-        
-        
         setupKeyboardControls(scene);
         
         
@@ -1520,50 +1639,13 @@ public class GameScreen {
         
         stage.setScene(scene);
         stage.setTitle("Nimonscooked - Game");
-        gameStartTime = System.currentTimeMillis();
         
         
         SoundManager.getInstance().stopMusic();
         
         gameLoop.start();
     }
-    
-    
-        
-    private List<Recipe> createDummyRecipes() {
-        List<Recipe> recipes = new ArrayList<>();
-        
-        
-        List<IngredientRequirement> kappaMakiReqs = new ArrayList<>();
-        kappaMakiReqs.add(new IngredientRequirement(Nori.class, IngredientState.RAW));
-        kappaMakiReqs.add(new IngredientRequirement(Rice.class, IngredientState.COOKED));
-        kappaMakiReqs.add(new IngredientRequirement(Cucumber.class, IngredientState.CHOPPED));
-        recipes.add(new Recipe("Kappa Maki", kappaMakiReqs));
-        
-        
-        List<IngredientRequirement> sakanaMakiReqs = new ArrayList<>();
-        sakanaMakiReqs.add(new IngredientRequirement(Nori.class, IngredientState.RAW));
-        sakanaMakiReqs.add(new IngredientRequirement(Rice.class, IngredientState.COOKED));
-        sakanaMakiReqs.add(new IngredientRequirement(Fish.class, IngredientState.CHOPPED));
-        recipes.add(new Recipe("Sakana Maki", sakanaMakiReqs));
-        
-        
-        List<IngredientRequirement> ebiMakiReqs = new ArrayList<>();
-        ebiMakiReqs.add(new IngredientRequirement(Nori.class, IngredientState.RAW));
-        ebiMakiReqs.add(new IngredientRequirement(Rice.class, IngredientState.COOKED));
-        ebiMakiReqs.add(new IngredientRequirement(Shrimp.class, IngredientState.COOKED));
-        recipes.add(new Recipe("Ebi Maki", ebiMakiReqs));
-        
-        
-        List<IngredientRequirement> fishCucumberRollReqs = new ArrayList<>();
-        fishCucumberRollReqs.add(new IngredientRequirement(Nori.class, IngredientState.RAW));
-        fishCucumberRollReqs.add(new IngredientRequirement(Rice.class, IngredientState.COOKED));
-        fishCucumberRollReqs.add(new IngredientRequirement(Fish.class, IngredientState.CHOPPED));
-        fishCucumberRollReqs.add(new IngredientRequirement(Cucumber.class, IngredientState.CHOPPED));
-        recipes.add(new Recipe("Fish Cucumber Roll", fishCucumberRollReqs));
-        
-        return recipes;
-    }
+
 
         
     public void stop() {
@@ -1572,13 +1654,9 @@ public class GameScreen {
         }
         
         
-        if (orderGeneratorTask != null) {
-            orderGeneratorTask.stop();
-        }
-        
-        
         if (taskExecutor != null) {
-            taskExecutor.shutdown();
+            GameTaskExecutor.resetInstance();
+            taskExecutor = null;
         }
     }
     
@@ -1624,61 +1702,25 @@ public class GameScreen {
                     break;
                 case Q:
                     
-                    throwItem();
+                    runOnSimulation(simulation::throwItem);
+                    break;
+                case T:
+                    cycleTimeScale();
+                    break;
+                case F3:
+                    toggleTickProfiling();
                     break;
                 
                 
                 case SPACE: 
-                    if (!isPaused && activeChef != null && tileManager != null) {
-                        
-                        nimons.entity.item.Item itemInHand = activeChef.getInventory();
-                        
-                        
-                        Position posInFront = getPositionInFront(activeChef);
-                        Tile tileFront = tileManager.getTileAt(posInFront);
-                        
-                        if (itemInHand != null) {
-                            
-                            if (itemInHand instanceof nimons.entity.item.interfaces.CookingDevice) {
-                                
-                                if (tileFront != null && tileFront.getItemOnTile() != null && 
-                                    tileFront.getItemOnTile() instanceof nimons.entity.item.interfaces.Preparable) {
-                                    
-                                    addIngredientToUtensilInHand(tileFront);
-                                    return; 
-                                }
-                            }
-                            
-                            
-                            if (tileFront != null && tileFront.getStation() != null) {
-                                
-                                tileFront.getStation().onInteract(activeChef);
-                            } else if (tileFront != null && tileFront.isWalkable() && tileFront.getItemOnTile() == null) {
-                                
-                                tileFront.setItemOnTile(itemInHand);
-                                activeChef.setInventory(null);
-                                addLog("✓ Dropped " + itemInHand.getName());
-                            } else {
-                                
-                                addLog("✗ Cannot drop item here (wall or tile occupied)");
-                            }
-                        } else {
-                            
-                            if (tileFront != null && tileFront.getStation() != null) {
-                                
-                                tileFront.getStation().onInteract(activeChef);
-                            } else if (tileFront != null && tileFront.getItemOnTile() != null) {
-                                
-                                pickupItemFromTile(tileFront);
-                            }
-                        }
-                    }
+                    runOnSimulation(simulation::interact);
                     break;
                 
                     
                 default:
                     break;
             }
+            pushMovementInput();
         });
         
         scene.setOnKeyReleased(event -> {
@@ -1701,442 +1743,29 @@ public class GameScreen {
                 default:
                     break;
             }
+            pushMovementInput();
         });
     }
     
-
-    
-        
-    private void pickupItemFromTile(Tile tile) {
-        if (activeChef == null || tile == null) {
-            return;
-        }
-        
-        nimons.entity.item.Item itemOnTile = tile.getItemOnTile();
-        if (itemOnTile == null || activeChef.getInventory() != null) {
-            return;
-        }
-        
-        
-        activeChef.setInventory(itemOnTile);
-        tile.setItemOnTile(null);
-        addLog("✓ Picked up " + itemOnTile.getName());
-    }
-    
-    
-    
-        
-    private void throwItem() {
-        if (activeChef == null || activeChef.getInventory() == null || tileManager == null) {
-            return;
-        }
-        
-        
-        if (playerChef != null) {
-            ensureChefTileTracking(playerChef);
-        }
-        if (chef2 != null) {
-            ensureChefTileTracking(chef2);
-        }
-        
-        nimons.entity.item.Item itemInHand = activeChef.getInventory();
-        
-        
-        boolean canThrow = false;
-        if (itemInHand instanceof nimons.entity.item.Ingredient) {
-            nimons.entity.item.Ingredient ing = (nimons.entity.item.Ingredient) itemInHand;
-            
-            if (ing.getState() == nimons.entity.item.IngredientState.RAW || 
-                ing.getState() == nimons.entity.item.IngredientState.CHOPPED) {
-                canThrow = true;
-            }
-        } else {
-            
-            canThrow = true;
-        }
-        
-        if (!canThrow) {
-            addLog("✗ Cannot throw cooked/burned ingredients");
-            return;
-        }
-        
-        
-        Position chefPos = activeChef.getPosition();
-        Direction dir = activeChef.getDirection();
-        int throwDistance = 3;
-        
-        Position landingPos = null;
-        Chef catchingChef = null;
-        
-        
-        for (int i = 1; i <= throwDistance; i++) {
-            int checkX = chefPos.getX();
-            int checkY = chefPos.getY();
-            
-            switch (dir) {
-                case UP:
-                    checkY -= i;
-                    break;
-                case DOWN:
-                    checkY += i;
-                    break;
-                case LEFT:
-                    checkX -= i;
-                    break;
-                case RIGHT:
-                    checkX += i;
-                    break;
-            }
-            
-            Position checkPos = new Position(checkX, checkY);
-            Tile checkTile = tileManager.getTileAt(checkPos);
-            
-            
-            if (checkTile == null || !checkTile.isWalkable()) {
-                
-                if (landingPos != null) {
-                    break; 
-                } else {
-                    addLog("✗ Cannot throw - wall is too close");
-                    return;
-                }
-            }
-            
-            
-            if (i == throwDistance) {
-                
-                Chef chefAtTile = null;
-                
-                
-                if (playerChef != null && playerChef != activeChef) {
-                    Position p1Pos = playerChef.getPosition();
-                    if (p1Pos.getX() == checkPos.getX() && p1Pos.getY() == checkPos.getY()) {
-                        chefAtTile = playerChef;
-                        System.out.println("[THROW] Found " + playerChef.getName() + " at tile " + i + " by position (" + checkPos.getX() + ", " + checkPos.getY() + ")");
-                    }
-                }
-                
-                if (chefAtTile == null && chef2 != null && chef2 != activeChef) {
-                    Position p2Pos = chef2.getPosition();
-                    if (p2Pos.getX() == checkPos.getX() && p2Pos.getY() == checkPos.getY()) {
-                        chefAtTile = chef2;
-                        System.out.println("[THROW] Found " + chef2.getName() + " at tile " + i + " by position (" + checkPos.getX() + ", " + checkPos.getY() + ")");
-                    }
-                }
-                
-                
-                if (chefAtTile == null) {
-                    chefAtTile = checkTile.getChefOnTile();
-                    if (chefAtTile != null && chefAtTile != activeChef) {
-                        System.out.println("[THROW] Found " + chefAtTile.getName() + " at tile " + i + " by tile tracking");
-                    }
-                }
-                
-                
-                if (chefAtTile != null && chefAtTile != activeChef) {
-                    if (chefAtTile.getInventory() == null) {
-                        
-                        catchingChef = chefAtTile;
-                        landingPos = checkPos;
-                        System.out.println("[THROW] " + chefAtTile.getName() + " will catch item! (inventory: empty)");
-                        break; 
-                    } else {
-                        
-                        System.out.println("[THROW] " + chefAtTile.getName() + " cannot catch (inventory full), item will drop");
-                    }
-                }
-            }
-            
-            
-            if (checkTile.getItemOnTile() != null) {
-                
-                if (landingPos != null) {
-                    break;
-                } else {
-                    addLog("✗ Cannot throw - path is blocked");
-                    return;
-                }
-            }
-            
-            landingPos = checkPos; 
-        }
-        
-        
-        if (landingPos != null) {
-            if (catchingChef != null) {
-                System.out.println("[THROW] Found catching chef: " + catchingChef.getName() + 
-                                 ", inventory empty: " + (catchingChef.getInventory() == null));
-                
-                if (catchingChef.getInventory() == null) {
-                    
-                    catchingChef.setInventory(itemInHand);
-                    activeChef.setInventory(null);
-                    addLog("✓ " + catchingChef.getName() + " caught " + itemInHand.getName());
-                    System.out.println("[THROW] Item caught successfully!");
-                } else {
-                    
-                    Tile landingTile = tileManager.getTileAt(landingPos);
-                    if (landingTile != null) {
-                        landingTile.setItemOnTile(itemInHand);
-                    }
-                    activeChef.setInventory(null);
-                    addLog("✓ Threw " + itemInHand.getName() + " (hands full, dropped)");
-                    System.out.println("[THROW] Chef hands full, item dropped");
-                }
-            } else {
-                
-                System.out.println("[THROW] No chef found, landing at (" + landingPos.getX() + ", " + landingPos.getY() + ")");
-                Tile landingTile = tileManager.getTileAt(landingPos);
-                if (landingTile != null) {
-                    landingTile.setItemOnTile(itemInHand);
-                }
-                activeChef.setInventory(null);
-                int distance = Math.abs(landingPos.getX() - chefPos.getX()) + 
-                               Math.abs(landingPos.getY() - chefPos.getY());
-                addLog("✓ Threw " + itemInHand.getName() + " (" + distance + " blocks)");
-            }
-        } else {
-            addLog("✗ Cannot throw item there");
-        }
-    }
-    
-    
-        
-    private void addIngredientToUtensilInHand(Tile tile) {
-        if (activeChef == null || tile == null) {
-            return;
-        }
-        
-        nimons.entity.item.Item itemInHand = activeChef.getInventory();
-        if (!(itemInHand instanceof nimons.entity.item.interfaces.CookingDevice)) {
-            return;
-        }
-        
-        nimons.entity.item.Item itemOnTile = tile.getItemOnTile();
-        if (!(itemOnTile instanceof nimons.entity.item.interfaces.Preparable)) {
-            return;
-        }
-        
-        nimons.entity.item.interfaces.CookingDevice device = (nimons.entity.item.interfaces.CookingDevice) itemInHand;
-        nimons.entity.item.interfaces.Preparable ingredient = (nimons.entity.item.interfaces.Preparable) itemOnTile;
-        
-        try {
-            device.addIngredient(ingredient);
-            tile.setItemOnTile(null);
-            
-            String ingredientName = ((nimons.entity.item.Item)ingredient).getName();
-            String utensilName = ((nimons.entity.item.Item)device).getName();
-            addLog("✓ Added " + ingredientName + " to " + utensilName + " (will cook when placed on station)");
-            
-        } catch (nimons.exceptions.StationFullException e) {
-            addLog("✗ " + e.getMessage());
-        } catch (nimons.exceptions.InvalidIngredientStateException e) {
-            addLog("✗ " + e.getIngredientName() + " must be " + e.getRequiredState() + " (currently: " + e.getCurrentState() + ")");
-        } catch (Exception e) {
-            addLog("✗ Failed to add ingredient: " + e.getMessage());
-        }
-    }
-    
-        
-    private void handleChefMovement(long currentTime) {
-    if (activeChef == null || tileManager == null) {
-            return;
-        }
-
-        
-        
-        
-        if (activeChef.isBusy()) { 
-            return; 
-        }
-        
-
-        
-        if (currentTime - lastMoveTime < GameConfig.MOVE_COOLDOWN_MS * 1_000_000) {
-            return;
-        }
-        
-        Direction newDirection = null;
-        
-        if (moveUp) {
-            newDirection = Direction.UP;
-        } else if (moveDown) {
-            newDirection = Direction.DOWN;
-        } else if (moveLeft) {
-            newDirection = Direction.LEFT;
-        } else if (moveRight) {
-            newDirection = Direction.RIGHT;
-        }
-        
-        if (newDirection != null) {
-            Position currentPos = activeChef.getPosition();
-            activeChef.setDirection(newDirection);
-            
-            
-            if (shiftPressed && !activeChef.isDashOnCooldown(currentTime)) {
-                
-                Position dashTarget = calculateDashTarget(currentPos, newDirection);
-                
-                if (dashTarget != null && tileManager.isWalkable(dashTarget)) {
-                    
-                    Tile oldTile = tileManager.getTileAt(currentPos);
-                    if (oldTile != null) {
-                        oldTile.setChefOnTile(null);
-                    }
-                    
-                    
-                    activeChef.setPosition(dashTarget);
-                    activeChef.dash(newDirection, currentTime); 
-                    
-                    
-                    chefTargetX = dashTarget.getX();
-                    chefTargetY = dashTarget.getY();
-                    
-                    
-                    Tile newTile = tileManager.getTileAt(dashTarget);
-                    if (newTile != null) {
-                        newTile.setChefOnTile(activeChef);
-                    }
-                    
-                    activeChef.setDashing(false);
-                    lastMoveTime = currentTime;
-                    
-                    System.out.println("Chef dashed to: (" + dashTarget.getX() + ", " + dashTarget.getY() + ")");
-                    return; 
-                }
-            }
-            
-            
-            
-            int newX = currentPos.getX();
-            int newY = currentPos.getY();
-            
-            switch (newDirection) {
-                case UP:
-                    newY--;
-                    break;
-                case DOWN:
-                    newY++;
-                    break;
-                case LEFT:
-                    newX--;
-                    break;
-                case RIGHT:
-                    newX++;
-                    break;
-            }
-            
-            Position newPos = new Position(newX, newY);
-            
-            
-            if (tileManager.isWalkable(newPos)) {
-                
-                chefIsMoving.put(activeChef, true);
-                
-                
-                Tile oldTile = tileManager.getTileAt(currentPos);
-                if (oldTile != null) {
-                    oldTile.setChefOnTile(null);
-                }
-                
-                
-                activeChef.setPosition(newPos);
-                
-                
-                chefTargetX = newPos.getX();
-                chefTargetY = newPos.getY();
-                
-                
-                
-                
-                Tile newTile = tileManager.getTileAt(newPos);
-                if (newTile != null) {
-                    newTile.setChefOnTile(activeChef); 
-                }
-                
-                lastMoveTime = currentTime;
-            }
-        }
-    }
-    
     
-    
-        
-    private Position calculateDashTarget(Position start, Direction direction) {
-        int dashDistance = GameConfig.DASH_DISTANCE_TILES;
-        int startX = start.getX();
-        int startY = start.getY();
-        
-        Position lastValidPos = start;
-        
-        
-        for (int i = 1; i <= dashDistance; i++) {
-            int checkX = startX;
-            int checkY = startY;
-            
-            switch (direction) {
-                case UP:
-                    checkY -= i;
-                    break;
-                case DOWN:
-                    checkY += i;
-                    break;
-                case LEFT:
-                    checkX -= i;
-                    break;
-                case RIGHT:
-                    checkX += i;
-                    break;
-            }
-            
-            Position checkPos = new Position(checkX, checkY);
-            Tile checkTile = tileManager.getTileAt(checkPos);
-            
-            
-            if (checkTile == null || !checkTile.isWalkable()) {
-                
-                if (lastValidPos.equals(start)) {
-                    
-                    System.out.println("Dash blocked: wall directly in front");
-                    return null;
-                }
-                System.out.println("Dash stopped before wall at distance " + (i-1));
-                return lastValidPos;
-            }
-            
-            
-            if (checkTile.getChefOnTile() != null) {
-                if (lastValidPos.equals(start)) {
-                    System.out.println("Dash blocked: chef directly in front");
-                    return null;
-                }
-                System.out.println("Dash stopped before chef at distance " + (i-1));
-                return lastValidPos;
-            }
-            
-            
-            lastValidPos = checkPos;
-        }
-        
         
-        System.out.println("Dash completed full distance: " + dashDistance);
-        return lastValidPos;
+    private void pushMovementInput() {
+        boolean up = moveUp, down = moveDown, left = moveLeft, right = moveRight, dash = shiftPressed;
+        runOnSimulation(() -> {
+            simulation.setMoveInput(up, down, left, right);
+            simulation.setDashHeld(dash);
+        });
     }
     
     
         
-    private void drawChef(Chef chef, double offsetX, double offsetY, boolean isActive) {
+private void drawChef(Chef chef, double offsetX, double offsetY) {
         if (chef == null) return;
         
         
-        double drawX, drawY;
-        if (isActive) {
-            drawX = chefRenderX;
-            drawY = chefRenderY;
-        } else {
-            drawX = chef.getPosition().getX();
-            drawY = chef.getPosition().getY();
-        }
+        double alpha = simulation.getInterpolationAlpha();
+        double drawX = chef.getInterpolatedRenderX(alpha);
+        double drawY = chef.getInterpolatedRenderY(alpha);
         
         double chefScreenX = offsetX + drawX * tileSize;
         double chefScreenY = offsetY + drawY * tileSize;
@@ -2146,32 +1775,32 @@ public class GameScreen {
         
         if (chefDisplayImage != null) {
             
-            drawChefWithDirection(gc, chefDisplayImage, chefScreenX, chefScreenY, tileSize, chef.getDirection());
+            draw.drawImage(chefDisplayImage, chefScreenX, chefScreenY, tileSize, tileSize);
         } else {
             
-            gc.setFill(Color.web("#ff6b6b"));
+            draw.setFill(Color.web("#ff6b6b"));
             double chefPadding = tileSize * 0.15;
-            gc.fillOval(chefScreenX + chefPadding, chefScreenY + chefPadding,
+            draw.fillOval(chefScreenX + chefPadding, chefScreenY + chefPadding,
                          tileSize - chefPadding * 2, tileSize - chefPadding * 2);
             
             
-            gc.setFill(Color.WHITE);
+            draw.setFill(Color.WHITE);
             double dirSize = tileSize * 0.15;
             double centerX = chefScreenX + tileSize / 2;
             double centerY = chefScreenY + tileSize / 2;
             
             switch (chef.getDirection()) {
                 case UP:
-                    gc.fillRect(centerX - dirSize / 2, centerY - tileSize * 0.3, dirSize, dirSize);
+                    draw.fillRect(centerX - dirSize / 2, centerY - tileSize * 0.3, dirSize, dirSize);
                     break;
                 case DOWN:
-                    gc.fillRect(centerX - dirSize / 2, centerY + tileSize * 0.15, dirSize, dirSize);
+                    draw.fillRect(centerX - dirSize / 2, centerY + tileSize * 0.15, dirSize, dirSize);
                     break;
                 case LEFT:
-                    gc.fillRect(centerX - tileSize * 0.3, centerY - dirSize / 2, dirSize, dirSize);
+                    draw.fillRect(centerX - tileSize * 0.3, centerY - dirSize / 2, dirSize, dirSize);
                     break;
                 case RIGHT:
-                    gc.fillRect(centerX + tileSize * 0.15, centerY - dirSize / 2, dirSize, dirSize);
+                    draw.fillRect(centerX + tileSize * 0.15, centerY - dirSize / 2, dirSize, dirSize);
                     break;
             }
         }
@@ -2184,104 +1813,65 @@ public class GameScreen {
                 double itemSize = tileSize * 0.65;
                 double itemX = chefScreenX + (tileSize - itemSize) / 2;
                 double itemY = chefScreenY - itemSize - 5;
-                gc.drawImage(itemImg, itemX, itemY, itemSize, itemSize);
+                draw.drawImage(itemImg, itemX, itemY, itemSize, itemSize);
             } else {
                 System.out.println("WARNING: No image for chef held item: " + chef.getInventory().getName() + 
                                    " (type: " + chef.getInventory().getClass().getSimpleName() + ")");
             }
         }
     }
-    
-    
+
         
     private void switchChef() {
-        if (playerChef == null || chef2 == null) {
-            return;
-        }
-        
-        
-        ensureChefTileTracking(playerChef);
-        ensureChefTileTracking(chef2);
-        
-        
-        if (activeChef == playerChef) {
-            activeChef = chef2;
-            System.out.println("Switched to Chef 2 at position (" + chef2.getPosition().getX() + ", " + chef2.getPosition().getY() + ")");
-        } else {
-            activeChef = playerChef;
-            System.out.println("Switched to Chef 1 at position (" + playerChef.getPosition().getX() + ", " + playerChef.getPosition().getY() + ")");
-        }
-        
-        
-        Position activePos = activeChef.getPosition();
-        chefTargetX = activePos.getX();
-        chefTargetY = activePos.getY();
-        
-        
-        chefRenderX = activePos.getX();
-        chefRenderY = activePos.getY();
-        
+        runOnSimulation(simulation::switchChef);
         
         moveUp = false;
         moveDown = false;
         moveLeft = false;
         moveRight = false;
     }
-    
-    
-        
-    private void ensureChefTileTracking(Chef chef) {
-        if (chef == null || tileManager == null) {
-            return;
-        }
-        
-        Position chefPos = chef.getPosition();
-        Tile chefTile = tileManager.getTileAt(chefPos);
+
+
         
-        if (chefTile != null && chefTile.getChefOnTile() != chef) {
-            chefTile.setChefOnTile(chef);
-            System.out.println("[TRACKING] Updated " + chef.getName() + " tracking at (" + chefPos.getX() + ", " + chefPos.getY() + ")");
-        }
+    private void cycleTimeScale() {
+        runOnSimulation(() -> {
+            simulation.setTimeScale(simulation.getTimeScale().next());
+            simulation.addLog("Game speed: " + simulation.getTimeScale().getDisplayName());
+        });
     }
     
     
-
-    
-    private Position getPositionInFront(Chef chef) {
-        Position currentPos = chef.getPosition();
-        int newX = currentPos.getX();
-        int newY = currentPos.getY();
         
-        switch (chef.getDirection()) {
-            case UP:
-                newY--;
-                break;
-            case DOWN:
-                newY++;
-                break;
-            case LEFT:
-                newX--;
-                break;
-            case RIGHT:
-                newX++;
-                break;
-        }
-        
-        return new Position(newX, newY);
+    private void toggleTickProfiling() {
+        runOnSimulation(() -> {
+            TickScheduler scheduler = simulation.getScheduler();
+            if (scheduler.isProfiling()) {
+                System.out.print(scheduler.formatStats());
+                scheduler.setProfiling(false);
+                simulation.addLog("Tick profiling: OFF");
+            } else {
+                scheduler.resetStats();
+                scheduler.setProfiling(true);
+                simulation.addLog("Tick profiling: ON");
+            }
+        });
     }
+    
+    
         
     private void togglePause() {
-        isPaused = !isPaused;
-        if (isPaused) {
-            pauseStartTime = System.currentTimeMillis();
-            gameState.pause();
-        } else {
-            gameState.resume();
-        }
+        runOnSimulation(() -> {
+            if (simulation.isPaused()) {
+                simulation.resume();
+            } else {
+                simulation.pause();
+            }
+        });
     }
     
         
     private void renderPauseMenu() {
+        GraphicsContext gc = overlayGc;
         
         gc.setFill(Color.color(0, 0, 0, 0.7));
         gc.fillRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
@@ -2303,12 +1893,12 @@ public class GameScreen {
         
         
         gc.setFill(Color.web("#F2C38F"));
-    gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, 56));
+    gc.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, 56));
         gc.setTextAlign(javafx.scene.text.TextAlignment.CENTER);
         gc.fillText("PAUSED", WINDOW_WIDTH / 2, menuY + 70);
         
         
-    gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, 18));
+    gc.setFont(FontCache.get(18));
         gc.setFill(Color.web("#E8A36B"));
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("Press ESC or click RESUME to continue", WINDOW_WIDTH / 2, menuY + 130);
@@ -2322,7 +1912,7 @@ public class GameScreen {
 
     private void setupMouseControls(Scene scene) {
         scene.setOnMouseClicked(event -> {
-            if (isPaused) {
+            if (overlayShown) {
                 double mouseX = event.getX();
                 double mouseY = event.getY();
                 
@@ -2368,13 +1958,14 @@ public class GameScreen {
         
         
         gc.setFill(Color.web("#F2C38F"));
-    gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, 18));
+    gc.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, 18));
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText(text, x + width / 2, y + height / 2 + 6);
     }
     
         
-    private void renderGameUI() {
+    private void renderGameUI(int currentScore, String timeText) {
+        GraphicsContext gc = hudGc;
         
         double margin = 20;
         
@@ -2394,15 +1985,14 @@ public class GameScreen {
         gc.strokeRoundRect(scoreBoxX, scoreBoxY, scoreBoxWidth, scoreBoxHeight, 10, 10);
         
         
-        int currentScore = gameState.getScore().getCurrentScore();
         gc.setFill(Color.web("#F2C38F"));
-    gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, 16));
+    gc.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, 16));
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("SCORE", scoreBoxX + scoreBoxWidth / 2, scoreBoxY + 25);
         
         
         gc.setFill(Color.web("#E8A36B"));
-    gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, 40));
+    gc.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, 40));
         gc.fillText(String.valueOf(currentScore), scoreBoxX + scoreBoxWidth / 2, scoreBoxY + 75);
         
         
@@ -2422,14 +2012,13 @@ public class GameScreen {
         
         
         gc.setFill(Color.web("#F2C38F"));
-    gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, 14));
+    gc.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, 14));
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("TIME", timerBoxX + timerBoxWidth / 2, timerBoxY + 20);
         
         
-        String timeText = gameState.getTimer().getFormattedRemainingTime();
         gc.setFill(Color.web("#E8A36B"));
-    gc.setFont(Font.font(nimons.core.GameConfig.DEFAULT_FONT_FAMILY, javafx.scene.text.FontWeight.BOLD, 36));
+    gc.setFont(FontCache.get(javafx.scene.text.FontWeight.BOLD, 36));
         gc.fillText(timeText, timerBoxX + timerBoxWidth / 2, timerBoxY + 65);
     }
     
@@ -2437,22 +2026,57 @@ public class GameScreen {
     private void showResultScreen() {
         
         gameLoop.stop();
+        saveReplay();
         
         
         nimons.logic.StageProgress.getInstance().completeStage(
             currentStageId, 
-            gameState.getScore().getCurrentScore(),
-            gameState.isPassed()
+            getGameState().getScore().getCurrentScore(),
+            getGameState().isPassed()
         );
         
         
         ResultScreen resultScreen = new ResultScreen(
             stage,
-            gameState.getScore().getCurrentScore(),
-            gameState.isPassed(),
-            gameState.getPassThreshold(),
-            gameState.getFailReason()
+            getGameState().getScore().getCurrentScore(),
+            getGameState().isPassed(),
+            getGameState().getPassThreshold(),
+            getGameState().getFailReason()
         );
         resultScreen.start();
     }
+    
+    
+        
+    private void saveReplay() {
+        InputRecording recording = simulation.stopRecording();
+        if (!GameConfig.SAVE_REPLAYS || recording == null) {
+            return;
+        }
+        
+        Path path = Path.of(GameConfig.REPLAY_DIRECTORY, currentStageId + "-" + simulation.getSeed() + ".replay");
+        try {
+            recording.save(path);
+            System.out.println("[GameScreen] Replay saved: " + path);
+        } catch (IOException e) {
+            System.err.println("[GameScreen] Failed to save replay: " + e.getMessage());
+        }
+    }
+    
+    
+    private static final class Frame {
+        boolean gameOver;
+        DrawList mapLayer;
+        DrawList entityLayer;
+        DrawList progressLayer;
+        List<Order> orders;
+        double hudY;
+        String handContent;
+        int score;
+        String timeText;
+        long logVersion;
+        List<String> logs;
+        boolean paused;
+        long workNanos;
+    }
 }
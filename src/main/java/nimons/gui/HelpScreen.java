@@ -69,7 +69,8 @@ public class HelpScreen {
                 {"SPACE", "Interact with station/item"},
                 {"F", "Switch chef (multiplayer)"},
                 {"ESC", "Pause game"},
-                {"Q", "Throw item"}
+                {"Q", "Throw item"},
+                {"T", "Cycle game speed"}
             }
         );
         
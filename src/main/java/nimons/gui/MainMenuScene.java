@@ -1,11 +1,16 @@
 package nimons.gui;
 
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Cursor;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
 import javafx.scene.input.MouseEvent;
@@ -20,6 +25,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Polygon;
 import javafx.scene.text.Font;
+import nimons.core.AssetRegistry;
 import nimons.core.GameConfig;
 import javafx.stage.Stage;
 
@@ -35,9 +41,7 @@ public class MainMenuScene {
         rootPane.setPrefSize(javafx.stage.Screen.getPrimary().getBounds().getWidth(), 
                             javafx.stage.Screen.getPrimary().getBounds().getHeight());
 
-        BackgroundImage bg = createBackground("/assets/menu_background.png");
-        if (bg != null) rootPane.setBackground(new Background(bg));
-        else rootPane.setStyle("-fx-background-color: linear-gradient(#6b0f0f, #3a0000);");
+        loadBackground("/assets/menu_background.png");
 
         StackPane playButton = createPlayButton();
         StackPane.setAlignment(playButton, Pos.CENTER);
@@ -47,7 +51,11 @@ public class MainMenuScene {
         StackPane.setAlignment(bottom, Pos.CENTER);
         bottom.setTranslateY(275);
 
-        rootPane.getChildren().addAll(bottom, playButton);
+        Label loading = createLoadingLabel();
+        StackPane.setAlignment(loading, Pos.BOTTOM_LEFT);
+        StackPane.setMargin(loading, new Insets(0, 0, 20, 20));
+
+        rootPane.getChildren().addAll(bottom, playButton, loading);
 
         playButton.toFront();
         playButton.setMouseTransparent(false);
@@ -55,16 +63,38 @@ public class MainMenuScene {
     }
 
         
-    private BackgroundImage createBackground(String resourcePath) {
-        try (InputStream is = getClass().getResourceAsStream(resourcePath)) {
-            if (is == null) return null;
-            Image img = new Image(is);
-            BackgroundSize bs = new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true);
-            return new BackgroundImage(img, BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER, bs);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
+    private void loadBackground(String resourcePath) {
+        CompletableFuture<Image> future = AssetRegistry.getInstance().loadImage(resourcePath);
+        if (future.isDone() && future.getNow(null) != null) {
+            setBackground(future.getNow(null));
+            return;
         }
+        
+        rootPane.setStyle("-fx-background-color: linear-gradient(#6b0f0f, #3a0000);");
+        future.thenAcceptAsync(img -> {
+            if (img != null) setBackground(img);
+        }, Platform::runLater);
+    }
+
+        
+    private void setBackground(Image img) {
+        BackgroundSize bs = new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true);
+        rootPane.setStyle("");
+        rootPane.setBackground(new Background(
+            new BackgroundImage(img, BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER, bs)));
+    }
+
+        
+    private Label createLoadingLabel() {
+        ReadOnlyDoubleProperty progress = AssetRegistry.getInstance().progressProperty();
+        Label label = new Label();
+        label.setFont(Font.font(GameConfig.DEFAULT_FONT_FAMILY, 16));
+        label.setTextFill(Color.web("#F2C38F"));
+        label.setMouseTransparent(true);
+        label.textProperty().bind(Bindings.createStringBinding(
+            () -> "Loading assets... " + Math.round(progress.get() * 100) + "%", progress));
+        label.visibleProperty().bind(progress.lessThan(1.0));
+        return label;
     }
 
         
@@ -1,17 +1,20 @@
 package nimons.gui;
 
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
-import nimons.core.GameConfig;
 import nimons.entity.item.IngredientState;
 import nimons.entity.order.IngredientRequirement;
 import nimons.entity.order.Order;
+import nimons.entity.order.Recipe;
 
 public class OrderDisplay {
     
@@ -26,8 +29,12 @@ public class OrderDisplay {
     private static final double DISH_ICON_SIZE = 70;
     private static final double INGREDIENT_ICON_SIZE = 32;
     
+    
+    private static final Map<Recipe, Image> cardCache = new IdentityHashMap<>();
+    
         
-    public static void renderOrders(GraphicsContext gc, List<Order> orders, double windowWidth, double startY, Map<String, Image> itemImages) {
+    public static void renderOrders(GraphicsContext gc, List<Order> orders, double windowWidth, double startY, Map<String, Image> itemImages, SpriteCache sprites) {
+        pruneCardCache(orders);
         if (orders == null || orders.isEmpty()) {
             return;
         }
@@ -36,47 +43,74 @@ public class OrderDisplay {
         int maxDisplay = Math.min(3, orders.size());
         for (int i = 0; i < maxDisplay; i++) {
             double cardY = startY + (i * (CARD_HEIGHT + CARD_SPACING));
-            renderOrderCard(gc, orders.get(i), startX, cardY, itemImages);
+            renderOrderCard(gc, orders.get(i), startX, cardY, itemImages, sprites);
         }
     }
     
     
         
-    private static void renderOrderCard(GraphicsContext gc, Order order, double x, double y, Map<String, Image> itemImages) {
+    private static void renderOrderCard(GraphicsContext gc, Order order, double x, double y, Map<String, Image> itemImages, SpriteCache sprites) {
         if (order == null) {
             return;
         }
         
-        
-        double opacity = order.getOpacity();
+        Image card = cardCache.get(order.getRecipe());
+        if (card == null) {
+            card = renderCardImage(order, itemImages, sprites);
+            cardCache.put(order.getRecipe(), card);
+        }
         
         
         gc.save();
-        gc.setGlobalAlpha(opacity);
+        gc.setGlobalAlpha(order.getOpacity());
+        gc.drawImage(card, x, y);
+        renderTimerBar(gc, order, x, y);
+        gc.restore();
+    }
+    
+    
+        
+    private static Image renderCardImage(Order order, Map<String, Image> itemImages, SpriteCache sprites) {
+        Canvas cardCanvas = new Canvas(CARD_WIDTH, CARD_HEIGHT);
+        GraphicsContext gc = cardCanvas.getGraphicsContext2D();
         
         
         gc.setFill(Color.web("#220606"));
-        gc.fillRoundRect(x, y, CARD_WIDTH, CARD_HEIGHT, 8, 8);
+        gc.fillRoundRect(1, 1, CARD_WIDTH - 2, CARD_HEIGHT - 2, 8, 8);
         
         
         gc.setStroke(Color.web("#E8A36B"));
         gc.setLineWidth(2);
-        gc.strokeRoundRect(x, y, CARD_WIDTH, CARD_HEIGHT, 8, 8);
+        gc.strokeRoundRect(1, 1, CARD_WIDTH - 2, CARD_HEIGHT - 2, 8, 8);
         
         
-        renderTimerBar(gc, order, x, y);
-        
-        
-        double dishIconX = x + (CARD_WIDTH - DISH_ICON_SIZE) / 2;
-        double dishIconY = y + TIMER_BAR_HEIGHT + 20;
-        renderDishIcon(gc, order, dishIconX, dishIconY, itemImages);
+        double dishIconX = (CARD_WIDTH - DISH_ICON_SIZE) / 2;
+        double dishIconY = TIMER_BAR_HEIGHT + 20;
+        renderDishIcon(gc, order, dishIconX, dishIconY, itemImages, sprites);
         
         
         double ingredientsY = dishIconY + DISH_ICON_SIZE + 30;
-        renderIngredientsHorizontal(gc, order, x, ingredientsY, itemImages);
+        renderIngredientsHorizontal(gc, order, 0, ingredientsY, itemImages, sprites);
         
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return cardCanvas.snapshot(params, null);
+    }
+    
+    
         
-        gc.restore();
+    private static void pruneCardCache(List<Order> orders) {
+        Iterator<Recipe> it = cardCache.keySet().iterator();
+        while (it.hasNext()) {
+            Recipe cached = it.next();
+            boolean active = false;
+            for (int i = 0; orders != null && i < orders.size() && !active; i++) {
+                active = orders.get(i).getRecipe() == cached;
+            }
+            if (!active) {
+                it.remove();
+            }
+        }
     }
     
     
@@ -118,7 +152,7 @@ public class OrderDisplay {
     
 
         
-    private static void renderDishIcon(GraphicsContext gc, Order order, double x, double y, Map<String, Image> itemImages) {
+    private static void renderDishIcon(GraphicsContext gc, Order order, double x, double y, Map<String, Image> itemImages, SpriteCache sprites) {
         
         Image dishImage = null;
         String recipeName = "";
@@ -141,7 +175,7 @@ public class OrderDisplay {
         
         
         if (dishImage != null) {
-            gc.drawImage(dishImage, x, y, DISH_ICON_SIZE, DISH_ICON_SIZE);
+            sprites.draw(gc, dishImage, x, y, DISH_ICON_SIZE, DISH_ICON_SIZE);
         } else {
             
             gc.setFill(Color.web("#3a0f0f"));
@@ -160,7 +194,7 @@ public class OrderDisplay {
         
         if (!recipeName.isEmpty()) {
             gc.setFill(Color.web("#F2C38F"));
-                gc.setFont(Font.font(GameConfig.DEFAULT_FONT_FAMILY, FontWeight.BOLD, 12));
+                gc.setFont(FontCache.get(FontWeight.BOLD, 12));
             
             
             double centerX = x + (DISH_ICON_SIZE / 2);
@@ -176,7 +210,7 @@ public class OrderDisplay {
     
     
         
-    private static void renderIngredientsHorizontal(GraphicsContext gc, Order order, double cardX, double y, Map<String, Image> itemImages) {
+    private static void renderIngredientsHorizontal(GraphicsContext gc, Order order, double cardX, double y, Map<String, Image> itemImages, SpriteCache sprites) {
         if (order == null || order.getRecipe() == null) {
             return;
         }
@@ -206,7 +240,7 @@ public class OrderDisplay {
             if (itemImages != null && itemImages.containsKey(imageKey)) {
                 Image img = itemImages.get(imageKey);
                 if (img != null) {
-                    gc.drawImage(img, currentX, y, INGREDIENT_ICON_SIZE, INGREDIENT_ICON_SIZE);
+                    sprites.draw(gc, img, currentX, y, INGREDIENT_ICON_SIZE, INGREDIENT_ICON_SIZE);
                 }
             } else {
                 
@@ -217,7 +251,7 @@ public class OrderDisplay {
                 
                 String initial = ingredientName.substring(0, 1).toUpperCase();
                 gc.setFill(Color.WHITE);
-                    gc.setFont(Font.font(GameConfig.DEFAULT_FONT_FAMILY, FontWeight.BOLD, 14));
+                    gc.setFont(FontCache.get(FontWeight.BOLD, 14));
             }
             
             
@@ -228,7 +262,7 @@ public class OrderDisplay {
             
             String displayName = capitalizeFirst(ingredientName);
             gc.setFill(Color.web("#E8A36B"));
-                gc.setFont(Font.font(GameConfig.DEFAULT_FONT_FAMILY, FontWeight.NORMAL, 8));
+                gc.setFont(FontCache.get(FontWeight.NORMAL, 8));
             double textX = currentX + (INGREDIENT_ICON_SIZE / 2) - 10;
             double textY = y + INGREDIENT_ICON_SIZE + 10;
             gc.fillText(displayName, textX, textY);
@@ -240,7 +274,7 @@ public class OrderDisplay {
         
         if (requirements.size() > displayCount) {
             gc.setFill(Color.web("#E8A36B"));
-                gc.setFont(Font.font(GameConfig.DEFAULT_FONT_FAMILY, FontWeight.BOLD, 10));
+                gc.setFont(FontCache.get(FontWeight.BOLD, 10));
         }
     }
     
@@ -0,0 +1,139 @@
+package nimons.gui;
+
+import java.util.Arrays;
+
+import javafx.scene.paint.Color;
+
+public class ProgressOverlay {
+
+    private static final Color TRACK_COLOR = Color.web("#333333");
+    private static final Color BORDER_COLOR = Color.WHITE;
+    private static final double WIDTH_RATIO = 0.6;
+    private static final double HEIGHT_RATIO = 0.08;
+    private static final double BOTTOM_PADDING = 5;
+
+    private double tileSize;
+    private double barWidth;
+    private double barHeight;
+    private Bars current = new Bars();
+    private Bars produced = new Bars();
+    private boolean hasProduced = false;
+
+
+    public void begin(double tileSize) {
+        this.tileSize = tileSize;
+        this.barWidth = tileSize * WIDTH_RATIO;
+        this.barHeight = tileSize * HEIGHT_RATIO;
+        current.clear();
+        current.width = barWidth;
+    }
+
+
+    public void add(double screenX, double screenY, float ratio, Color color) {
+        double clamped = Math.max(0.0, Math.min(1.0, ratio));
+        current.add(
+            screenX + (tileSize - barWidth) / 2,
+            screenY + tileSize - barHeight - BOTTOM_PADDING,
+            (int) Math.round(barWidth * clamped),
+            color);
+    }
+
+
+    public DrawList build(DrawList.Builder target) {
+        if (hasProduced && current.sameAs(produced)) {
+            return null;
+        }
+        Bars swap = produced;
+        produced = current;
+        current = swap;
+        hasProduced = true;
+
+        Bars bars = produced;
+        if (bars.count == 0) {
+            return target.build();
+        }
+
+
+        target.setFill(TRACK_COLOR);
+        for (int i = 0; i < bars.count; i++) {
+            target.fillRect(bars.xs[i], bars.ys[i], barWidth, barHeight);
+        }
+
+        for (int i = 0; i < bars.count; i++) {
+            Color color = bars.colors[i];
+            if (bars.fills[i] <= 0 || indexOf(bars.colors, color, i) < i) {
+                continue;
+            }
+            target.setFill(color);
+            for (int j = i; j < bars.count; j++) {
+                if (bars.colors[j] == color && bars.fills[j] > 0) {
+                    target.fillRect(bars.xs[j], bars.ys[j], bars.fills[j], barHeight);
+                }
+            }
+        }
+
+        target.setStroke(BORDER_COLOR);
+        target.setLineWidth(1);
+        for (int i = 0; i < bars.count; i++) {
+            target.strokeRect(bars.xs[i], bars.ys[i], barWidth, barHeight);
+        }
+        return target.build();
+    }
+
+
+    public void invalidate() {
+        hasProduced = false;
+    }
+
+
+    private static int indexOf(Color[] colors, Color color, int limit) {
+        for (int i = 0; i < limit; i++) {
+            if (colors[i] == color) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+
+    private static final class Bars {
+        double[] xs = new double[16];
+        double[] ys = new double[16];
+        int[] fills = new int[16];
+        Color[] colors = new Color[16];
+        int count = 0;
+        double width = -1;
+
+        void clear() {
+            Arrays.fill(colors, 0, count, null);
+            count = 0;
+        }
+
+        void add(double x, double y, int fill, Color color) {
+            if (count == xs.length) {
+                xs = Arrays.copyOf(xs, count * 2);
+                ys = Arrays.copyOf(ys, count * 2);
+                fills = Arrays.copyOf(fills, count * 2);
+                colors = Arrays.copyOf(colors, count * 2);
+            }
+            xs[count] = x;
+            ys[count] = y;
+            fills[count] = fill;
+            colors[count] = color;
+            count++;
+        }
+
+        boolean sameAs(Bars other) {
+            if (count != other.count || width != other.width) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (xs[i] != other.xs[i] || ys[i] != other.ys[i]
+                    || fills[i] != other.fills[i] || colors[i] != other.colors[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
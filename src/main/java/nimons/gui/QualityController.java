@@ -0,0 +1,69 @@
+package nimons.gui;
+
+import nimons.core.GameConfig;
+
+public class QualityController {
+
+    private static final double SMOOTHING = 0.1;
+    private static final double REFRESH_DRIFT = 0.001;
+
+    private RenderQuality quality = RenderQuality.HIGH;
+    private double refreshNanos = GameConfig.TARGET_FRAME_MS * 1_000_000.0;
+    private boolean refreshMeasured = false;
+    private double averageFrameNanos = refreshNanos;
+    private double averageWorkNanos = 0;
+    private int slowFrames = 0;
+    private int fastFrames = 0;
+
+
+    public void recordPulse(long pulseNanos) {
+        if (pulseNanos <= 0) {
+            return;
+        }
+        if (!refreshMeasured || pulseNanos < refreshNanos) {
+            refreshNanos = pulseNanos;
+            refreshMeasured = true;
+        } else {
+            refreshNanos += (pulseNanos - refreshNanos) * REFRESH_DRIFT;
+        }
+    }
+
+
+    public RenderQuality record(long frameNanos, long workNanos) {
+        averageFrameNanos += (frameNanos - averageFrameNanos) * SMOOTHING;
+        averageWorkNanos += (workNanos - averageWorkNanos) * SMOOTHING;
+
+        boolean idle = averageWorkNanos < refreshNanos * GameConfig.QUALITY_HEADROOM_RATIO;
+        if (idle) {
+            fastFrames++;
+            slowFrames = 0;
+        } else if (averageFrameNanos > refreshNanos * GameConfig.QUALITY_MISS_RATIO) {
+            slowFrames++;
+            fastFrames = 0;
+        } else {
+            slowFrames = 0;
+            fastFrames = 0;
+        }
+
+
+        RenderQuality next = quality;
+        if (slowFrames >= GameConfig.QUALITY_DOWNGRADE_FRAMES) {
+            next = quality.lower();
+        } else if (fastFrames >= GameConfig.QUALITY_UPGRADE_FRAMES) {
+            next = quality.higher();
+        }
+        if (next == quality) {
+            return null;
+        }
+
+        quality = next;
+        slowFrames = 0;
+        fastFrames = 0;
+        averageFrameNanos = refreshNanos;
+        return next;
+    }
+
+    public RenderQuality getQuality() {
+        return quality;
+    }
+}
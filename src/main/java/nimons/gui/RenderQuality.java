@@ -0,0 +1,52 @@
+package nimons.gui;
+
+public enum RenderQuality {
+    HIGH("High", 1.0, true, true, 0),
+    MEDIUM("Medium", 0.85, true, false, 100),
+    LOW("Low", 0.7, false, false, 250);
+    
+    private final String displayName;
+    private final double renderScale;
+    private final boolean chefAnimation;
+    private final boolean orderFade;
+    private final long stationRefreshMs;
+    
+    RenderQuality(String displayName, double renderScale, boolean chefAnimation, boolean orderFade, long stationRefreshMs) {
+        this.displayName = displayName;
+        this.renderScale = renderScale;
+        this.chefAnimation = chefAnimation;
+        this.orderFade = orderFade;
+        this.stationRefreshMs = stationRefreshMs;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public double getRenderScale() {
+        return renderScale;
+    }
+    
+    public boolean hasChefAnimation() {
+        return chefAnimation;
+    }
+    
+    public boolean hasOrderFade() {
+        return orderFade;
+    }
+    
+    public long getStationRefreshMs() {
+        return stationRefreshMs;
+    }
+    
+        
+    public RenderQuality lower() {
+        RenderQuality[] values = values();
+        return values[Math.min(ordinal() + 1, values.length - 1)];
+    }
+    
+        
+    public RenderQuality higher() {
+        return values()[Math.max(ordinal() - 1, 0)];
+    }
+}
@@ -0,0 +1,203 @@
+package nimons.gui;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+
+import org.w3c.dom.Node;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+public class SpriteAnimation {
+
+    private static final String IMAGE_FORMAT = "javax_imageio_gif_image_1.0";
+    private static final String STREAM_FORMAT = "javax_imageio_gif_stream_1.0";
+    private static final long DEFAULT_FRAME_MS = 100;
+
+    private final Image[] frames;
+    private final Image[] flippedFrames;
+    private final long[] frameEnds;
+    private final long duration;
+
+    private SpriteAnimation(List<int[]> pixels, List<Long> delays, int width, int height) {
+        int count = pixels.size();
+        this.frames = new Image[count];
+        this.flippedFrames = new Image[count];
+        this.frameEnds = new long[count];
+
+        long time = 0;
+        for (int i = 0; i < count; i++) {
+            int[] argb = pixels.get(i);
+            frames[i] = toImage(argb, width, height);
+            flippedFrames[i] = toImage(flipHorizontal(argb, width, height), width, height);
+            time += delays.get(i);
+            frameEnds[i] = time;
+        }
+        this.duration = time;
+    }
+
+
+    public static SpriteAnimation decodeGif(InputStream in) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+            if (stream == null || !readers.hasNext()) {
+                throw new IOException("No GIF decoder available");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, false);
+                return decode(reader);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+
+    private static SpriteAnimation decode(ImageReader reader) throws IOException {
+        int count = reader.getNumImages(true);
+        if (count <= 0) {
+            throw new IOException("GIF contains no frames");
+        }
+
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        IIOMetadata streamMetadata = reader.getStreamMetadata();
+        if (streamMetadata != null) {
+            Node screen = child(streamMetadata.getAsTree(STREAM_FORMAT), "LogicalScreenDescriptor");
+            width = Math.max(width, intAttribute(screen, "logicalScreenWidth", width));
+            height = Math.max(height, intAttribute(screen, "logicalScreenHeight", height));
+        }
+
+
+        int[] canvas = new int[width * height];
+        List<int[]> pixels = new ArrayList<>(count);
+        List<Long> delays = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BufferedImage frame = reader.read(i);
+            Node tree = reader.getImageMetadata(i).getAsTree(IMAGE_FORMAT);
+            Node descriptor = child(tree, "ImageDescriptor");
+            Node control = child(tree, "GraphicControlExtension");
+            int left = intAttribute(descriptor, "imageLeftPosition", 0);
+            int top = intAttribute(descriptor, "imageTopPosition", 0);
+            String disposal = attribute(control, "disposalMethod");
+            int delay = intAttribute(control, "delayTime", 0);
+
+            int[] previous = "restoreToPrevious".equals(disposal) ? canvas.clone() : null;
+            int fw = Math.min(frame.getWidth(), width - left);
+            int fh = Math.min(frame.getHeight(), height - top);
+            for (int y = 0; y < fh; y++) {
+                for (int x = 0; x < fw; x++) {
+                    int argb = frame.getRGB(x, y);
+                    if ((argb >>> 24) != 0) {
+                        canvas[(top + y) * width + left + x] = argb;
+                    }
+                }
+            }
+
+            pixels.add(canvas.clone());
+            delays.add(delay > 1 ? delay * 10L : DEFAULT_FRAME_MS);
+
+            if ("restoreToBackgroundColor".equals(disposal)) {
+                for (int y = 0; y < fh; y++) {
+                    int row = (top + y) * width + left;
+                    Arrays.fill(canvas, row, row + fw, 0);
+                }
+            } else if (previous != null) {
+                canvas = previous;
+            }
+        }
+        return new SpriteAnimation(pixels, delays, width, height);
+    }
+
+
+    public Image frameAt(long timeMs, boolean flipped) {
+        Image[] source = flipped ? flippedFrames : frames;
+        if (source.length == 1 || duration <= 0) {
+            return source[0];
+        }
+
+        long t = Math.floorMod(timeMs, duration);
+        int lo = 0;
+        int hi = frameEnds.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (frameEnds[mid] > t) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return source[lo];
+    }
+
+
+    private static int[] flipHorizontal(int[] argb, int width, int height) {
+        int[] out = new int[argb.length];
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                out[row + width - 1 - x] = argb[row + x];
+            }
+        }
+        return out;
+    }
+
+
+    private static Image toImage(int[] argb, int width, int height) {
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        return image;
+    }
+
+
+    private static Node child(Node parent, String name) {
+        for (Node node = parent != null ? parent.getFirstChild() : null; node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static String attribute(Node node, String name) {
+        Node value = node != null && node.getAttributes() != null ? node.getAttributes().getNamedItem(name) : null;
+        return value != null ? value.getNodeValue() : null;
+    }
+
+    private static int intAttribute(Node node, String name, int fallback) {
+        String value = attribute(node, name);
+        try {
+            return value != null ? Integer.parseInt(value) : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    public Image[] getFrames() {
+        return frames.clone();
+    }
+
+    public Image[] getFlippedFrames() {
+        return flippedFrames.clone();
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,170 @@
+package nimons.gui;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+public class SpriteAtlas {
+
+    private static final int MAX_WIDTH = 1024;
+    private static final int PADDING = 1;
+
+    private final Map<String, Image> sources = new LinkedHashMap<>();
+    private final Map<String, Image> aliases = new HashMap<>();
+    private final Map<Image, Boolean> registered = new IdentityHashMap<>();
+    private final Map<String, Sprite> sprites = new HashMap<>();
+    private final Map<Image, Sprite> spritesByImage = new IdentityHashMap<>();
+    private WritableImage atlasImage;
+
+
+    public void add(String key, Image image) {
+        if (key == null || image == null || image.isError() || image.getPixelReader() == null) {
+            return;
+        }
+        if (registered.put(image, Boolean.TRUE) != null) {
+            aliases.put(key, image);
+            return;
+        }
+        sources.put(key, image);
+    }
+
+
+    public void pack() {
+        List<Map.Entry<String, Image>> entries = new ArrayList<>(sources.entrySet());
+        entries.sort((a, b) -> Double.compare(b.getValue().getHeight(), a.getValue().getHeight()));
+
+
+        Map<String, int[]> placements = new HashMap<>();
+        int cursorX = 0;
+        int cursorY = 0;
+        int rowHeight = 0;
+        int usedWidth = 0;
+        for (Map.Entry<String, Image> entry : entries) {
+            int w = (int) entry.getValue().getWidth() + PADDING * 2;
+            int h = (int) entry.getValue().getHeight() + PADDING * 2;
+            if (cursorX + w > MAX_WIDTH && cursorX > 0) {
+                cursorX = 0;
+                cursorY += rowHeight;
+                rowHeight = 0;
+            }
+            placements.put(entry.getKey(), new int[] { cursorX, cursorY });
+            cursorX += w;
+            rowHeight = Math.max(rowHeight, h);
+            usedWidth = Math.max(usedWidth, cursorX);
+        }
+        int atlasHeight = cursorY + rowHeight;
+
+        if (usedWidth == 0 || atlasHeight == 0) {
+            return;
+        }
+
+
+        atlasImage = new WritableImage(usedWidth, atlasHeight);
+        PixelWriter writer = atlasImage.getPixelWriter();
+        sprites.clear();
+        spritesByImage.clear();
+        for (Map.Entry<String, Image> entry : entries) {
+            Image image = entry.getValue();
+            int[] at = placements.get(entry.getKey());
+            int w = (int) image.getWidth();
+            int h = (int) image.getHeight();
+            int x = at[0] + PADDING;
+            int y = at[1] + PADDING;
+
+            blit(writer, image.getPixelReader(), x, y, w, h);
+
+            Sprite sprite = new Sprite(entry.getKey(), x, y, w, h);
+            sprites.put(entry.getKey(), sprite);
+            spritesByImage.put(image, sprite);
+        }
+        for (Map.Entry<String, Image> alias : aliases.entrySet()) {
+            sprites.put(alias.getKey(), spritesByImage.get(alias.getValue()));
+        }
+
+        System.out.println("[SpriteAtlas] Packed " + sprites.size() + " sprites into " + usedWidth + "x" + atlasHeight);
+    }
+
+
+    private static void blit(PixelWriter writer, PixelReader reader, int x, int y, int w, int h) {
+        writer.setPixels(x, y, w, h, reader, 0, 0);
+
+
+        writer.setPixels(x, y - PADDING, w, PADDING, reader, 0, 0);
+        writer.setPixels(x, y + h, w, PADDING, reader, 0, h - PADDING);
+        writer.setPixels(x - PADDING, y, PADDING, h, reader, 0, 0);
+        writer.setPixels(x + w, y, PADDING, h, reader, w - PADDING, 0);
+    }
+
+
+    public void draw(GraphicsContext gc, Image image, double x, double y, double width, double height) {
+        if (image == null) {
+            return;
+        }
+        Sprite sprite = spritesByImage.get(image);
+        if (sprite == null) {
+            gc.drawImage(image, x, y, width, height);
+            return;
+        }
+        gc.drawImage(atlasImage, sprite.x, sprite.y, sprite.width, sprite.height, x, y, width, height);
+    }
+
+
+    public void draw(GraphicsContext gc, String key, double x, double y, double width, double height) {
+        Sprite sprite = sprites.get(key);
+        if (sprite != null) {
+            gc.drawImage(atlasImage, sprite.x, sprite.y, sprite.width, sprite.height, x, y, width, height);
+        }
+    }
+
+    public boolean contains(String key) {
+        return sprites.containsKey(key);
+    }
+
+    public Sprite getSprite(String key) {
+        return sprites.get(key);
+    }
+
+    public Sprite getSprite(Image image) {
+        return spritesByImage.get(image);
+    }
+
+    public Image getAtlasImage() {
+        return atlasImage;
+    }
+
+    public int size() {
+        return sprites.size();
+    }
+
+
+    public static final class Sprite {
+        private final String key;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        Sprite(String key, int x, int y, int width, int height) {
+            this.key = key;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        public String getKey() { return key; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+}
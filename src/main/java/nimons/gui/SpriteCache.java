@@ -0,0 +1,178 @@
+package nimons.gui;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+public class SpriteCache {
+
+    private static final int PAGE_SIZE = 1024;
+    private static final int MAX_PAGES = 8;
+    private static final int PADDING = 1;
+
+    private final SpriteAtlas atlas;
+    private final Map<SpriteAtlas.Sprite, Map<Integer, Entry>> entries = new IdentityHashMap<>();
+    private final Map<SpriteAtlas.Sprite, int[]> sourcePixels = new HashMap<>();
+    private final List<WritableImage> pages = new ArrayList<>();
+    private int cursorX = 0;
+    private int cursorY = 0;
+    private int rowHeight = 0;
+    private double tileSize = -1;
+
+    public SpriteCache(SpriteAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+
+    public void setTileSize(double tileSize) {
+        if (this.tileSize != tileSize) {
+            this.tileSize = tileSize;
+            invalidate();
+        }
+    }
+
+
+    public void invalidate() {
+        entries.clear();
+        pages.clear();
+        cursorX = 0;
+        cursorY = 0;
+        rowHeight = 0;
+    }
+
+
+    public void draw(GraphicsContext gc, Image image, double x, double y, double width, double height) {
+        if (image == null) {
+            return;
+        }
+
+        SpriteAtlas.Sprite sprite = atlas.getSprite(image);
+        int w = (int) Math.round(width);
+        int h = (int) Math.round(height);
+        Entry entry = sprite != null && w > 0 && h > 0 ? lookup(sprite, w, h) : null;
+        if (entry == null) {
+            atlas.draw(gc, image, x, y, width, height);
+            return;
+        }
+        gc.drawImage(entry.page, entry.x, entry.y, w, h, x, y, w, h);
+    }
+
+
+    private Entry lookup(SpriteAtlas.Sprite sprite, int w, int h) {
+        Map<Integer, Entry> sizes = entries.computeIfAbsent(sprite, s -> new HashMap<>());
+        Integer sizeKey = (w << 16) | h;
+        Entry entry = sizes.get(sizeKey);
+        if (entry == null) {
+            entry = rasterize(sprite, w, h);
+            if (entry != null) {
+                sizes.put(sizeKey, entry);
+            }
+        }
+        return entry;
+    }
+
+
+    private Entry rasterize(SpriteAtlas.Sprite sprite, int w, int h) {
+        if (w + PADDING > PAGE_SIZE || h + PADDING > PAGE_SIZE) {
+            return null;
+        }
+        if (!pages.isEmpty() && cursorX + w + PADDING > PAGE_SIZE) {
+            cursorX = 0;
+            cursorY += rowHeight;
+            rowHeight = 0;
+        }
+        if (pages.isEmpty() || cursorY + h + PADDING > PAGE_SIZE) {
+            if (pages.size() >= MAX_PAGES) {
+                return null;
+            }
+            pages.add(new WritableImage(PAGE_SIZE, PAGE_SIZE));
+            cursorX = 0;
+            cursorY = 0;
+            rowHeight = 0;
+        }
+
+        WritableImage page = pages.get(pages.size() - 1);
+        int[] scaled = scale(getSourcePixels(sprite), sprite.getWidth(), sprite.getHeight(), w, h);
+        page.getPixelWriter().setPixels(cursorX, cursorY, w, h, PixelFormat.getIntArgbInstance(), scaled, 0, w);
+
+        Entry entry = new Entry(page, cursorX, cursorY);
+        cursorX += w + PADDING;
+        rowHeight = Math.max(rowHeight, h + PADDING);
+        return entry;
+    }
+
+
+    private int[] getSourcePixels(SpriteAtlas.Sprite sprite) {
+        return sourcePixels.computeIfAbsent(sprite, s -> {
+            int[] pixels = new int[s.getWidth() * s.getHeight()];
+            atlas.getAtlasImage().getPixelReader().getPixels(s.getX(), s.getY(), s.getWidth(), s.getHeight(),
+                PixelFormat.getIntArgbInstance(), pixels, 0, s.getWidth());
+            return pixels;
+        });
+    }
+
+
+    static int[] scale(int[] src, int sw, int sh, int dw, int dh) {
+        int[] out = new int[dw * dh];
+        double scaleX = (double) sw / dw;
+        double scaleY = (double) sh / dh;
+
+        for (int oy = 0; oy < dh; oy++) {
+            double y0 = oy * scaleY;
+            double y1 = y0 + scaleY;
+            for (int ox = 0; ox < dw; ox++) {
+                double x0 = ox * scaleX;
+                double x1 = x0 + scaleX;
+
+                double sumA = 0, sumR = 0, sumG = 0, sumB = 0, total = 0;
+                for (int sy = (int) y0; sy < Math.min(sh, Math.ceil(y1)); sy++) {
+                    double wy = Math.min(y1, sy + 1) - Math.max(y0, sy);
+                    for (int sx = (int) x0; sx < Math.min(sw, Math.ceil(x1)); sx++) {
+                        double weight = wy * (Math.min(x1, sx + 1) - Math.max(x0, sx));
+                        int argb = src[sy * sw + sx];
+                        double a = (argb >>> 24) * weight;
+                        sumA += a;
+                        sumR += ((argb >> 16) & 0xff) * a;
+                        sumG += ((argb >> 8) & 0xff) * a;
+                        sumB += (argb & 0xff) * a;
+                        total += weight;
+                    }
+                }
+
+                if (sumA <= 0 || total <= 0) {
+                    continue;
+                }
+                int a = (int) Math.round(sumA / total);
+                int r = (int) Math.round(sumR / sumA);
+                int g = (int) Math.round(sumG / sumA);
+                int b = (int) Math.round(sumB / sumA);
+                out[oy * dw + ox] = (a << 24) | (r << 16) | (g << 8) | b;
+            }
+        }
+        return out;
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+
+    private static final class Entry {
+        final WritableImage page;
+        final int x;
+        final int y;
+
+        Entry(WritableImage page, int x, int y) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
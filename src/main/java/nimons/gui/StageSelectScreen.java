@@ -1,6 +1,5 @@
 package nimons.gui;
 
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,6 +26,7 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
 import javafx.stage.Stage;
+import nimons.core.AssetRegistry;
 import nimons.core.GameConfig;
 import nimons.logic.StageProgress;
 import nimons.logic.StageProgress.StageStatus;
@@ -286,9 +286,9 @@ public class StageSelectScreen {
 
         String previewPath = "/assets/picture/map.png";
 
-        try (InputStream is = getClass().getResourceAsStream(previewPath)) {
-            if (is != null) {
-                Image preview = new Image(is);
+        try {
+            Image preview = AssetRegistry.getInstance().getImage(previewPath);
+            if (preview != null) {
                 previewImageView.setImage(preview);
                 mapPreview.getChildren().addAll(mapLabel, previewImageView);
             } else {
@@ -0,0 +1,46 @@
+package nimons.logic;
+
+public class GameRandom {
+    
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    
+    private long state;
+    
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+    
+    
+        
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    
+        
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        return (int) Math.floorMod(nextLong(), (long) bound);
+    }
+    
+    
+        
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+    
+    
+    public long getState() {
+        return state;
+    }
+    
+    
+    public void setState(long state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,1027 @@
+package nimons.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import nimons.core.GameConfig;
+import nimons.core.GameSettings;
+import nimons.entity.chef.Chef;
+import nimons.entity.chef.Direction;
+import nimons.entity.common.Position;
+import nimons.entity.item.BoilingPot;
+import nimons.entity.item.FryingPan;
+import nimons.entity.item.Ingredient;
+import nimons.entity.item.IngredientState;
+import nimons.entity.item.Item;
+import nimons.entity.item.ingredient.Cucumber;
+import nimons.entity.item.ingredient.Fish;
+import nimons.entity.item.ingredient.Nori;
+import nimons.entity.item.ingredient.Rice;
+import nimons.entity.item.ingredient.Shrimp;
+import nimons.entity.item.interfaces.CookingDevice;
+import nimons.entity.item.interfaces.Preparable;
+import nimons.entity.map.MapLoadResult;
+import nimons.entity.map.StationRegistry;
+import nimons.entity.map.MapLoader;
+import nimons.entity.map.Tile;
+import nimons.entity.map.TileManager;
+import nimons.entity.order.IngredientRequirement;
+import nimons.entity.order.Recipe;
+import nimons.entity.station.CookingStation;
+import nimons.entity.station.PlateStorageStation;
+import nimons.entity.station.Station;
+import nimons.exceptions.InvalidIngredientStateException;
+import nimons.exceptions.StationFullException;
+import nimons.logic.clock.GameClock;
+import nimons.logic.clock.ManualGameClock;
+import nimons.logic.clock.TimeScale;
+import nimons.logic.entity.EntityStore;
+import nimons.logic.order.OrderManager;
+import nimons.logic.replay.InputCommand;
+import nimons.logic.replay.InputRecording;
+import nimons.logic.tick.TickPhase;
+import nimons.logic.tick.TickScheduler;
+
+public class GameSimulation {
+
+    private static final int MAX_LOGS = 5;
+    private static final int THROW_DISTANCE_TILES = 3;
+    private static final long STEP_NANOS = GameConfig.FIXED_TIMESTEP_MS * 1_000_000L;
+    private static final long MAX_FRAME_NANOS = GameConfig.MAX_FRAME_TIME_MS * 1_000_000L;
+
+    private final String stageId;
+    private long seed;
+    private final GameSettings settings;
+    private final ManualGameClock clock = new ManualGameClock();
+    private final GameState gameState;
+    private final OrderManager orderManager;
+
+    private TileManager tileManager;
+    private List<Position> spawnPositions = new ArrayList<>();
+    private StationRegistry stationRegistry = new StationRegistry(0, 0);
+    private final TickScheduler scheduler = new TickScheduler();
+    private final EntityStore entities = new EntityStore();
+    private final Map<Class<? extends Station>, Station> activeStations = new HashMap<>();
+    private PlateStorageStation plateStorage;
+    private Chef playerChef;
+    private Chef chef2;
+    private Chef activeChef;
+
+
+    private boolean moveUp = false;
+    private boolean moveDown = false;
+    private boolean moveLeft = false;
+    private boolean moveRight = false;
+    private boolean dashHeld = false;
+    private long lastMoveTime = 0;
+
+
+    private boolean paused = false;
+    private long tickCount = 0;
+    private long accumulatorNanos = 0;
+    private TimeScale timeScale = TimeScale.NORMAL;
+
+
+    private InputRecording recording;
+    private List<InputCommand> replayCommands;
+    private int replayIndex = 0;
+
+
+    private final List<String> onScreenLogs = new ArrayList<>();
+    private long logVersion = 0;
+    private boolean verbose = true;
+    private Consumer<String> soundPlayer = name -> { };
+
+    public GameSimulation(String stageId) {
+        this(stageId, new SplittableRandom().nextLong());
+    }
+
+    public GameSimulation(String stageId, long seed) {
+        this(stageId, seed, GameSettings.getInstance());
+    }
+
+    public GameSimulation(String stageId, long seed, GameSettings settings) {
+        this(stageId, seed, settings, true);
+    }
+
+    public GameSimulation(String stageId, long seed, GameSettings settings, boolean verbose) {
+        this.stageId = stageId;
+        this.seed = seed;
+        this.settings = settings;
+        this.verbose = verbose;
+        this.gameState = new GameState(GameConfig.GAME_DURATION_SECONDS, GameConfig.PASSING_SCORE_THRESHOLD, clock, settings, this::log);
+        this.orderManager = new OrderManager();
+        this.orderManager.setSimulation(this);
+
+        loadMap(stageId);
+        if (tileManager != null) {
+            entities.setStationChangeListener(id -> tileManager.markDirty(entities.getX(id), entities.getY(id)));
+            entities.setStationProgressListener(id -> tileManager.markProgressDirty(entities.getX(id), entities.getY(id)));
+        }
+        registerSystems();
+    }
+
+
+    private void registerSystems() {
+        scheduler.register(TickPhase.INPUT, "replay", deltaTimeMs -> applyReplayCommands());
+        scheduler.register(TickPhase.INPUT, "render-history", deltaTimeMs -> {
+            if (playerChef != null) playerChef.beginTick();
+            if (chef2 != null) chef2.beginTick();
+        });
+
+        scheduler.register(TickPhase.MOVEMENT, "chef-movement", deltaTimeMs -> handleChefMovement(clock.currentTimeMs()));
+        scheduler.register(TickPhase.MOVEMENT, "chef-easing", deltaTimeMs -> {
+            if (playerChef != null) playerChef.easeTowardsPosition(GameConfig.MOVE_SPEED);
+            if (chef2 != null) chef2.easeTowardsPosition(GameConfig.MOVE_SPEED);
+        });
+
+        scheduler.register(TickPhase.STATION, "station-work", entities::advanceWork);
+        for (Station station : stationRegistry.getAll()) {
+            if (entities.getWorkDuration(station.getEntityId()) > 0) {
+                continue;
+            }
+            scheduler.register(TickPhase.STATION, station.getClass().getSimpleName() + "(" + station.getPosition().getX() + "," + station.getPosition().getY() + ")", station);
+        }
+
+        scheduler.register(TickPhase.ORDER, "orders", deltaTimeMs -> {
+            orderManager.trySpawnNewOrder(clock.currentTimeMs());
+            orderManager.update(deltaTimeMs);
+        });
+
+        scheduler.register(TickPhase.SCORING, "game-state", deltaTimeMs -> gameState.update());
+
+        scheduler.register(TickPhase.CLEANUP, "chef-tiles", deltaTimeMs -> {
+            ensureChefTileTracking(playerChef);
+            ensureChefTileTracking(chef2);
+        });
+        scheduler.register(TickPhase.CLEANUP, "entity-store", deltaTimeMs -> entities.flushChanges());
+    }
+
+
+    private void loadMap(String stageId) {
+        try {
+            MapLoader loader = new MapLoader(this::log);
+            MapLoadResult result = loader.load(stageId);
+
+            this.tileManager = result.getTileManager();
+            this.spawnPositions = result.getSpawnPositions();
+
+            this.stationRegistry = result.getStationRegistry();
+
+            for (Station station : stationRegistry.getAll()) {
+                station.setSimulation(this);
+                entities.addStation(station);
+            }
+            stationRegistry.indexIds();
+
+            List<PlateStorageStation> plateStorages = stationRegistry.getAll(PlateStorageStation.class);
+            if (!plateStorages.isEmpty()) {
+                plateStorage = plateStorages.get(0);
+                if (plateStorages.size() > 1) {
+                    System.err.println("WARNING: Multiple PlateStorageStation in " + stageId + "! Using the first one.");
+                }
+            }
+            for (CookingStation station : stationRegistry.getAll(CookingStation.class)) {
+                applyUtensilCapacity(station);
+            }
+
+            if (!spawnPositions.isEmpty()) {
+                Position spawnPos1 = spawnPositions.get(0);
+                playerChef = new Chef("player1", "Chef 1", spawnPos1, Direction.RIGHT);
+
+                Tile spawnTile1 = tileManager.getTileAt(spawnPos1);
+                if (spawnTile1 != null) {
+                    spawnTile1.setChefOnTile(playerChef);
+                }
+
+                Position spawnPos2;
+                if (spawnPositions.size() > 1) {
+                    spawnPos2 = spawnPositions.get(1);
+                } else {
+                    spawnPos2 = new Position(spawnPos1.getX() + 1, spawnPos1.getY());
+
+                    if (!tileManager.isInBounds(spawnPos2) || !tileManager.isWalkable(spawnPos2)) {
+                        spawnPos2 = new Position(spawnPos1.getX(), spawnPos1.getY() + 1);
+                    }
+                }
+
+                chef2 = new Chef("player2", "Chef 2", spawnPos2, Direction.RIGHT);
+
+                Tile spawnTile2 = tileManager.getTileAt(spawnPos2);
+                if (spawnTile2 != null) {
+                    spawnTile2.setChefOnTile(chef2);
+                }
+
+                activeChef = playerChef;
+                entities.addChef(playerChef);
+                entities.addChef(chef2);
+            }
+
+            log("[GameSimulation] Map loaded: " + stageId + " (" + tileManager.getWidth() + "x" + tileManager.getHeight()
+                + ", " + stationRegistry.size() + " stations, " + spawnPositions.size() + " spawns)");
+        } catch (Exception e) {
+            System.err.println("[GameSimulation] Failed to load map: " + stageId);
+            e.printStackTrace();
+        }
+    }
+
+
+    private void applyUtensilCapacity(CookingStation station) {
+        if (station.getUtensils() instanceof BoilingPot) {
+            ((BoilingPot) station.getUtensils()).setCapacity(settings.getBoilingPotCapacity());
+        } else if (station.getUtensils() instanceof FryingPan) {
+            ((FryingPan) station.getUtensils()).setCapacity(settings.getFryingPanCapacity());
+        }
+    }
+
+
+    public void start(long seed) {
+        this.seed = seed;
+        start();
+    }
+
+
+    public void start() {
+        GameRandom sessionRandom = new GameRandom(seed);
+
+        clock.reset();
+        gameState.reset();
+        orderManager.setSpawnIntervalMs(settings.getOrderSpawnIntervalMs());
+        orderManager.reset();
+        orderManager.setRandom(sessionRandom.split());
+        orderManager.setAvailableRecipes(createStageRecipes());
+
+        onScreenLogs.clear();
+        logVersion++;
+        clearInput();
+
+        paused = false;
+        tickCount = 0;
+        lastMoveTime = 0;
+        accumulatorNanos = 0;
+        
+        for (Chef chef : getChefs()) {
+            chef.snapRenderPosition();
+        }
+
+        log("[GameSimulation] Session started: " + stageId + " (seed " + seed + ")");
+    }
+    
+    
+    public int advance(long frameNanos) {
+        if (timeScale.isUnbounded()) {
+            accumulatorNanos = 0;
+            return runSteps(GameConfig.UNBOUNDED_STEPS_PER_FRAME);
+        }
+        
+        long clamped = Math.min(Math.max(frameNanos, 0), MAX_FRAME_NANOS);
+        accumulatorNanos += (long) (clamped * timeScale.getMultiplier());
+        
+        int steps = 0;
+        while (accumulatorNanos >= STEP_NANOS) {
+            step(GameConfig.FIXED_TIMESTEP_MS);
+            accumulatorNanos -= STEP_NANOS;
+            steps++;
+        }
+        return steps;
+    }
+    
+    
+    public int runFor(long simulatedMs) {
+        return runSteps((int) Math.ceil(simulatedMs / (double) GameConfig.FIXED_TIMESTEP_MS));
+    }
+    
+    
+    public int runToCompletion() {
+        int steps = 0;
+        while (!gameState.isGameOver() && !paused) {
+            step(GameConfig.FIXED_TIMESTEP_MS);
+            steps++;
+        }
+        return steps;
+    }
+    
+    
+    private int runSteps(int maxSteps) {
+        int steps = 0;
+        while (steps < maxSteps && !gameState.isGameOver() && !paused) {
+            step(GameConfig.FIXED_TIMESTEP_MS);
+            steps++;
+        }
+        return steps;
+    }
+    
+    
+    public TimeScale getTimeScale() {
+        return timeScale;
+    }
+    
+    
+    public void setTimeScale(TimeScale timeScale) {
+        this.timeScale = timeScale;
+        this.accumulatorNanos = 0;
+    }
+    
+    
+    public double getInterpolationAlpha() {
+        return accumulatorNanos / (double) STEP_NANOS;
+    }
+
+
+    public void step(long deltaTimeMs) {
+        if (gameState.isGameOver()) {
+            return;
+        }
+
+        scheduler.runPhase(TickPhase.INPUT, deltaTimeMs);
+
+        if (paused) {
+            return;
+        }
+
+        clock.advance(deltaTimeMs);
+        tickCount++;
+
+        scheduler.runPhases(TickPhase.MOVEMENT, deltaTimeMs);
+    }
+
+
+    public WorldSnapshot createSnapshot() {
+        Tile[][] tiles = tileManager.getTiles();
+        int width = tileManager.getWidth();
+
+        int itemCount = 0;
+        int chefCount = 0;
+        for (int y = 0; y < tileManager.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                Tile tile = tiles[y][x];
+                if (tile == null) continue;
+                if (tile.getItemOnTile() != null) itemCount++;
+                if (tile.getChefOnTile() != null) chefCount++;
+            }
+        }
+
+        int[] itemTiles = new int[itemCount];
+        Item[] tileItems = new Item[itemCount];
+        int[] chefTiles = new int[chefCount];
+        Chef[] tileChefs = new Chef[chefCount];
+        int itemIndex = 0;
+        int chefIndex = 0;
+        for (int y = 0; y < tileManager.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                Tile tile = tiles[y][x];
+                if (tile == null) continue;
+                if (tile.getItemOnTile() != null) {
+                    itemTiles[itemIndex] = y * width + x;
+                    tileItems[itemIndex++] = tile.getItemOnTile().copy();
+                }
+                if (tile.getChefOnTile() != null) {
+                    chefTiles[chefIndex] = y * width + x;
+                    tileChefs[chefIndex++] = tile.getChefOnTile();
+                }
+            }
+        }
+
+        List<Chef> chefs = getChefs();
+        Object[] chefMementos = new Object[chefs.size()];
+        for (int i = 0; i < chefMementos.length; i++) {
+            chefMementos[i] = chefs.get(i).createMemento();
+        }
+
+        List<Station> stations = stationRegistry.getAll();
+        Object[] stationMementos = new Object[stations.size()];
+        for (int i = 0; i < stationMementos.length; i++) {
+            stationMementos[i] = stations.get(i).createMemento();
+        }
+
+        return new WorldSnapshot(tickCount, clock.currentTimeMs(), paused, lastMoveTime,
+            new boolean[] { moveUp, moveDown, moveLeft, moveRight, dashHeld }, activeChef,
+            gameState.createMemento(), orderManager.createMemento(), chefMementos, stationMementos, entities.createMemento(),
+            new HashMap<>(activeStations), itemTiles, tileItems, chefTiles, tileChefs);
+    }
+
+
+    public void restoreSnapshot(WorldSnapshot snapshot) {
+        tickCount = snapshot.tickCount;
+        clock.restore(snapshot.clockTimeMs, snapshot.paused);
+        paused = snapshot.paused;
+        lastMoveTime = snapshot.lastMoveTime;
+        moveUp = snapshot.input[0];
+        moveDown = snapshot.input[1];
+        moveLeft = snapshot.input[2];
+        moveRight = snapshot.input[3];
+        dashHeld = snapshot.input[4];
+        activeChef = snapshot.activeChef;
+        accumulatorNanos = 0;
+
+        gameState.restoreMemento(snapshot.gameState);
+        orderManager.restoreMemento(snapshot.orders);
+
+        List<Chef> chefs = getChefs();
+        for (int i = 0; i < chefs.size(); i++) {
+            chefs.get(i).restoreMemento(snapshot.chefs[i]);
+        }
+
+        List<Station> stations = stationRegistry.getAll();
+        for (int i = 0; i < stations.size(); i++) {
+            stations.get(i).restoreMemento(snapshot.stations[i]);
+        }
+        entities.restoreMemento(snapshot.entities);
+
+        activeStations.clear();
+        activeStations.putAll(snapshot.activeStations);
+
+        Tile[][] tiles = tileManager.getTiles();
+        int width = tileManager.getWidth();
+        for (int y = 0; y < tileManager.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                Tile tile = tiles[y][x];
+                if (tile != null) {
+                    tile.setItemOnTile(null);
+                    tile.setChefOnTile(null);
+                }
+            }
+        }
+        for (int i = 0; i < snapshot.itemTiles.length; i++) {
+            int index = snapshot.itemTiles[i];
+            tiles[index / width][index % width].setItemOnTile(snapshot.tileItems[i].copy());
+        }
+        for (int i = 0; i < snapshot.chefTiles.length; i++) {
+            int index = snapshot.chefTiles[i];
+            tiles[index / width][index % width].setChefOnTile(snapshot.tileChefs[i]);
+        }
+
+        tileManager.markAllDirty();
+    }
+
+
+    public InputRecording startRecording() {
+        recording = new InputRecording(stageId, seed, settings);
+        return recording;
+    }
+
+
+    public InputRecording stopRecording() {
+        InputRecording finished = recording;
+        if (finished != null) {
+            finished.finish(tickCount);
+        }
+        recording = null;
+        return finished;
+    }
+
+
+    public void startReplay(InputRecording replay) {
+        replayCommands = replay.getCommands();
+        replayIndex = 0;
+    }
+
+
+    public boolean hasPendingReplayInput() {
+        return replayCommands != null && replayIndex < replayCommands.size();
+    }
+
+
+    private void applyReplayCommands() {
+        if (replayCommands == null) {
+            return;
+        }
+        while (replayIndex < replayCommands.size() && replayCommands.get(replayIndex).getTick() <= tickCount) {
+            apply(replayCommands.get(replayIndex++));
+        }
+    }
+
+
+    public void apply(InputCommand command) {
+        switch (command.getType()) {
+            case MOVE:
+                setMoveInput(command.has(InputCommand.UP), command.has(InputCommand.DOWN),
+                    command.has(InputCommand.LEFT), command.has(InputCommand.RIGHT));
+                break;
+            case DASH:
+                setDashHeld(command.getValue() != 0);
+                break;
+            case INTERACT:
+                interact();
+                break;
+            case THROW:
+                throwItem();
+                break;
+            case SWITCH_CHEF:
+                switchChef();
+                break;
+            case PAUSE:
+                pause();
+                break;
+            case RESUME:
+                resume();
+                break;
+        }
+    }
+
+
+    private void record(InputCommand.Type type, int value) {
+        if (recording != null) {
+            recording.add(new InputCommand(tickCount, type, value));
+        }
+    }
+
+
+    public void pause() {
+        if (!paused) {
+            record(InputCommand.Type.PAUSE, 0);
+            paused = true;
+            clock.pause();
+            gameState.pause();
+        }
+    }
+
+
+    public void resume() {
+        if (paused) {
+            record(InputCommand.Type.RESUME, 0);
+            paused = false;
+            clock.resume();
+            gameState.resume();
+        }
+    }
+
+
+    public void setMoveInput(boolean up, boolean down, boolean left, boolean right) {
+        if (up != moveUp || down != moveDown || left != moveLeft || right != moveRight) {
+            record(InputCommand.Type.MOVE, InputCommand.moveMask(up, down, left, right));
+        }
+        updateMoveInput(up, down, left, right);
+    }
+
+
+    private void updateMoveInput(boolean up, boolean down, boolean left, boolean right) {
+        this.moveUp = up;
+        this.moveDown = down;
+        this.moveLeft = left;
+        this.moveRight = right;
+    }
+
+
+    public void setDashHeld(boolean dashHeld) {
+        if (dashHeld != this.dashHeld) {
+            record(InputCommand.Type.DASH, dashHeld ? 1 : 0);
+        }
+        this.dashHeld = dashHeld;
+    }
+
+
+    public void clearInput() {
+        updateMoveInput(false, false, false, false);
+        dashHeld = false;
+    }
+
+
+    private void handleChefMovement(long currentTimeMs) {
+        if (activeChef == null || tileManager == null) {
+            return;
+        }
+
+        if (activeChef.isBusy()) {
+            return;
+        }
+
+        if (currentTimeMs - lastMoveTime < GameConfig.MOVE_COOLDOWN_MS) {
+            return;
+        }
+
+        Direction newDirection = null;
+
+        if (moveUp) {
+            newDirection = Direction.UP;
+        } else if (moveDown) {
+            newDirection = Direction.DOWN;
+        } else if (moveLeft) {
+            newDirection = Direction.LEFT;
+        } else if (moveRight) {
+            newDirection = Direction.RIGHT;
+        }
+
+        if (newDirection == null) {
+            return;
+        }
+
+        long currentTimeNanos = currentTimeMs * 1_000_000L;
+        Position currentPos = activeChef.getPosition();
+        activeChef.setDirection(newDirection);
+
+        if (dashHeld && !activeChef.isDashOnCooldown(currentTimeNanos)) {
+            Position dashTarget = calculateDashTarget(currentPos, newDirection);
+
+            if (dashTarget != null && tileManager.isWalkable(dashTarget)) {
+                moveChef(activeChef, currentPos, dashTarget);
+                activeChef.dash(newDirection, currentTimeNanos);
+                activeChef.setDashing(false);
+                lastMoveTime = currentTimeMs;
+                return;
+            }
+        }
+
+        Position newPos = new Position(currentPos.getX() + newDirection.getDx(), currentPos.getY() + newDirection.getDy());
+
+        if (tileManager.isWalkable(newPos)) {
+            moveChef(activeChef, currentPos, newPos);
+            lastMoveTime = currentTimeMs;
+        }
+    }
+
+
+    private void moveChef(Chef chef, Position from, Position to) {
+        Tile oldTile = tileManager.getTileAt(from);
+        if (oldTile != null) {
+            oldTile.setChefOnTile(null);
+        }
+
+        chef.setPosition(to);
+        entities.setPosition(chef.getEntityId(), to.getX(), to.getY());
+
+        Tile newTile = tileManager.getTileAt(to);
+        if (newTile != null) {
+            newTile.setChefOnTile(chef);
+        }
+    }
+
+
+    private Position calculateDashTarget(Position start, Direction direction) {
+        Position lastValidPos = start;
+
+        for (int i = 1; i <= GameConfig.DASH_DISTANCE_TILES; i++) {
+            int x = start.getX() + direction.getDx() * i;
+            int y = start.getY() + direction.getDy() * i;
+
+            if (!tileManager.isWalkable(x, y)) {
+                return lastValidPos == start ? null : lastValidPos;
+            }
+
+            lastValidPos = new Position(x, y);
+        }
+
+        return lastValidPos;
+    }
+
+
+    public void interact() {
+        record(InputCommand.Type.INTERACT, 0);
+        if (paused || activeChef == null || tileManager == null) {
+            return;
+        }
+
+        Item itemInHand = activeChef.getInventory();
+        Tile tileFront = tileManager.getTileAt(getPositionInFront(activeChef));
+
+        if (itemInHand != null) {
+            if (itemInHand instanceof CookingDevice
+                && tileFront != null && tileFront.getItemOnTile() instanceof Preparable) {
+                addIngredientToUtensilInHand(tileFront);
+                return;
+            }
+
+            if (tileFront != null && tileFront.getStation() != null) {
+                tileFront.getStation().onInteract(activeChef);
+                entities.markDirty(tileFront.getStation().getEntityId());
+            } else if (tileFront != null && tileFront.isWalkable() && tileFront.getItemOnTile() == null) {
+                tileFront.setItemOnTile(itemInHand);
+                activeChef.setInventory(null);
+                addLog("✓ Dropped " + itemInHand.getName());
+            } else {
+                addLog("✗ Cannot drop item here (wall or tile occupied)");
+            }
+        } else {
+            if (tileFront != null && tileFront.getStation() != null) {
+                tileFront.getStation().onInteract(activeChef);
+                entities.markDirty(tileFront.getStation().getEntityId());
+            } else if (tileFront != null && tileFront.getItemOnTile() != null) {
+                pickupItemFromTile(tileFront);
+            }
+        }
+    }
+
+
+    private void pickupItemFromTile(Tile tile) {
+        Item itemOnTile = tile.getItemOnTile();
+        if (itemOnTile == null || activeChef.getInventory() != null) {
+            return;
+        }
+
+        activeChef.setInventory(itemOnTile);
+        tile.setItemOnTile(null);
+        addLog("✓ Picked up " + itemOnTile.getName());
+    }
+
+
+    private void addIngredientToUtensilInHand(Tile tile) {
+        CookingDevice device = (CookingDevice) activeChef.getInventory();
+        Preparable ingredient = (Preparable) tile.getItemOnTile();
+
+        try {
+            device.addIngredient(ingredient);
+            tile.setItemOnTile(null);
+
+            String ingredientName = ((Item) ingredient).getName();
+            String utensilName = ((Item) device).getName();
+            addLog("✓ Added " + ingredientName + " to " + utensilName + " (will cook when placed on station)");
+        } catch (StationFullException e) {
+            addLog("✗ " + e.getMessage());
+        } catch (InvalidIngredientStateException e) {
+            addLog("✗ " + e.getIngredientName() + " must be " + e.getRequiredState() + " (currently: " + e.getCurrentState() + ")");
+        } catch (Exception e) {
+            addLog("✗ Failed to add ingredient: " + e.getMessage());
+        }
+    }
+
+
+    public void throwItem() {
+        record(InputCommand.Type.THROW, 0);
+        if (paused || activeChef == null || activeChef.getInventory() == null || tileManager == null) {
+            return;
+        }
+
+        ensureChefTileTracking(playerChef);
+        ensureChefTileTracking(chef2);
+
+        Item itemInHand = activeChef.getInventory();
+
+        if (itemInHand instanceof Ingredient) {
+            IngredientState state = ((Ingredient) itemInHand).getState();
+            if (state != IngredientState.RAW && state != IngredientState.CHOPPED) {
+                addLog("✗ Cannot throw cooked/burned ingredients");
+                return;
+            }
+        }
+
+        Position chefPos = activeChef.getPosition();
+        Direction dir = activeChef.getDirection();
+
+        Position landingPos = null;
+        Chef catchingChef = null;
+
+        for (int i = 1; i <= THROW_DISTANCE_TILES; i++) {
+            int x = chefPos.getX() + dir.getDx() * i;
+            int y = chefPos.getY() + dir.getDy() * i;
+
+            if (!tileManager.isWalkable(x, y)) {
+                if (landingPos != null) {
+                    break;
+                }
+                addLog("✗ Cannot throw - wall is too close");
+                return;
+            }
+
+            Position checkPos = new Position(x, y);
+            if (i == THROW_DISTANCE_TILES) {
+                Chef chefAtTile = findOtherChefAt(checkPos);
+                if (chefAtTile != null && chefAtTile.getInventory() == null) {
+                    catchingChef = chefAtTile;
+                    landingPos = checkPos;
+                    break;
+                }
+            }
+
+            landingPos = checkPos;
+        }
+
+        if (landingPos == null) {
+            addLog("✗ Cannot throw item there");
+            return;
+        }
+
+        activeChef.setInventory(null);
+
+        if (catchingChef != null) {
+            catchingChef.setInventory(itemInHand);
+            addLog("✓ " + catchingChef.getName() + " caught " + itemInHand.getName());
+        } else {
+            Tile landingTile = tileManager.getTileAt(landingPos);
+            if (landingTile != null) {
+                landingTile.setItemOnTile(itemInHand);
+            }
+            int distance = Math.abs(landingPos.getX() - chefPos.getX()) + Math.abs(landingPos.getY() - chefPos.getY());
+            addLog("✓ Threw " + itemInHand.getName() + " (" + distance + " blocks)");
+        }
+    }
+
+
+    private Chef findOtherChefAt(Position pos) {
+        int id = entities.chefAt(pos.getX(), pos.getY(), activeChef.getEntityId());
+        return id != EntityStore.NO_ENTITY ? entities.getChef(id) : null;
+    }
+
+
+    public void switchChef() {
+        record(InputCommand.Type.SWITCH_CHEF, 0);
+        if (playerChef == null || chef2 == null) {
+            return;
+        }
+
+        ensureChefTileTracking(playerChef);
+        ensureChefTileTracking(chef2);
+
+        activeChef = (activeChef == playerChef) ? chef2 : playerChef;
+
+        updateMoveInput(false, false, false, false);
+    }
+
+
+    private void ensureChefTileTracking(Chef chef) {
+        if (chef == null || tileManager == null) {
+            return;
+        }
+
+        Tile chefTile = tileManager.getTileAt(chef.getPosition());
+        if (chefTile != null && chefTile.getChefOnTile() != chef) {
+            chefTile.setChefOnTile(chef);
+        }
+    }
+
+
+    private Position getPositionInFront(Chef chef) {
+        Position currentPos = chef.getPosition();
+        Direction dir = chef.getDirection();
+        return new Position(currentPos.getX() + dir.getDx(), currentPos.getY() + dir.getDy());
+    }
+
+
+    private List<Recipe> createStageRecipes() {
+        List<Recipe> recipes = new ArrayList<>();
+
+        List<IngredientRequirement> kappaMakiReqs = new ArrayList<>();
+        kappaMakiReqs.add(new IngredientRequirement(Nori.class, IngredientState.RAW));
+        kappaMakiReqs.add(new IngredientRequirement(Rice.class, IngredientState.COOKED));
+        kappaMakiReqs.add(new IngredientRequirement(Cucumber.class, IngredientState.CHOPPED));
+        recipes.add(new Recipe("Kappa Maki", kappaMakiReqs));
+
+        List<IngredientRequirement> sakanaMakiReqs = new ArrayList<>();
+        sakanaMakiReqs.add(new IngredientRequirement(Nori.class, IngredientState.RAW));
+        sakanaMakiReqs.add(new IngredientRequirement(Rice.class, IngredientState.COOKED));
+        sakanaMakiReqs.add(new IngredientRequirement(Fish.class, IngredientState.CHOPPED));
+        recipes.add(new Recipe("Sakana Maki", sakanaMakiReqs));
+
+        List<IngredientRequirement> ebiMakiReqs = new ArrayList<>();
+        ebiMakiReqs.add(new IngredientRequirement(Nori.class, IngredientState.RAW));
+        ebiMakiReqs.add(new IngredientRequirement(Rice.class, IngredientState.COOKED));
+        ebiMakiReqs.add(new IngredientRequirement(Shrimp.class, IngredientState.COOKED));
+        recipes.add(new Recipe("Ebi Maki", ebiMakiReqs));
+
+        List<IngredientRequirement> fishCucumberRollReqs = new ArrayList<>();
+        fishCucumberRollReqs.add(new IngredientRequirement(Nori.class, IngredientState.RAW));
+        fishCucumberRollReqs.add(new IngredientRequirement(Rice.class, IngredientState.COOKED));
+        fishCucumberRollReqs.add(new IngredientRequirement(Fish.class, IngredientState.CHOPPED));
+        fishCucumberRollReqs.add(new IngredientRequirement(Cucumber.class, IngredientState.CHOPPED));
+        recipes.add(new Recipe("Fish Cucumber Roll", fishCucumberRollReqs));
+
+        return recipes;
+    }
+
+
+    public void addLog(String message) {
+        onScreenLogs.add(0, message);
+        logVersion++;
+
+        if (onScreenLogs.size() > MAX_LOGS) {
+            onScreenLogs.remove(onScreenLogs.size() - 1);
+        }
+    }
+
+
+    public void playSound(String name) {
+        soundPlayer.accept(name);
+    }
+
+
+    public void setSoundPlayer(Consumer<String> soundPlayer) {
+        this.soundPlayer = soundPlayer != null ? soundPlayer : name -> { };
+    }
+
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+
+    public void log(String message) {
+        if (verbose) {
+            System.out.println(message);
+        }
+    }
+
+
+    public List<String> getLogs() {
+        return Collections.unmodifiableList(onScreenLogs);
+    }
+
+
+    public long getLogVersion() {
+        return logVersion;
+    }
+
+    public String getStageId() {
+        return stageId;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public GameSettings getSettings() {
+        return settings;
+    }
+
+    public EntityStore getEntities() {
+        return entities;
+    }
+
+    public TickScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public OrderManager getOrderManager() {
+        return orderManager;
+    }
+
+    public TileManager getTileManager() {
+        return tileManager;
+    }
+
+    public List<Station> getStations() {
+        return stationRegistry.getAll();
+    }
+
+    public StationRegistry getStationRegistry() {
+        return stationRegistry;
+    }
+
+    public PlateStorageStation getPlateStorage() {
+        return plateStorage;
+    }
+
+    public Station getActiveStation(Class<? extends Station> type) {
+        return activeStations.get(type);
+    }
+
+    public void setActiveStation(Class<? extends Station> type, Station station) {
+        if (station == null) {
+            activeStations.remove(type);
+        } else {
+            activeStations.put(type, station);
+        }
+    }
+
+    public List<Chef> getChefs() {
+        List<Chef> chefs = new ArrayList<>(2);
+        if (playerChef != null) chefs.add(playerChef);
+        if (chef2 != null) chefs.add(chef2);
+        return chefs;
+    }
+
+    public Chef getPlayerChef() {
+        return playerChef;
+    }
+
+    public Chef getChef2() {
+        return chef2;
+    }
+
+    public Chef getActiveChef() {
+        return activeChef;
+    }
+
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public long getElapsedMs() {
+        return clock.currentTimeMs();
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -1,7 +1,11 @@
 package nimons.logic;
 
+import java.util.function.Consumer;
+
 import nimons.core.GameConfig;
 import nimons.core.GameSettings;
+import nimons.logic.clock.GameClock;
+import nimons.logic.clock.SystemGameClock;
 import nimons.logic.scoring.GameScore;
 
 public class GameState {
@@ -12,6 +16,9 @@ public class GameState {
         NO_LIVES
     }
     
+    private final GameClock clock;
+    private final GameSettings settings;
+    private final Consumer<String> console;
     private GameTimer timer;
     private GameScore score;
     private boolean isGameOver = false;
@@ -26,17 +33,26 @@ public class GameState {
     }
     
     public GameState(long durationSeconds, int passThreshold) {
-        this.timer = new GameTimer(durationSeconds);
+        this(durationSeconds, passThreshold, new SystemGameClock(), GameSettings.getInstance());
+    }
+    
+    public GameState(long durationSeconds, int passThreshold, GameClock clock, GameSettings settings) {
+        this(durationSeconds, passThreshold, clock, settings, System.out::println);
+    }
+    
+    public GameState(long durationSeconds, int passThreshold, GameClock clock, GameSettings settings, Consumer<String> console) {
+        this.clock = clock;
+        this.settings = settings;
+        this.console = console;
+        this.timer = new GameTimer(durationSeconds, clock);
         this.score = new GameScore();
         this.passThreshold = passThreshold;
         
-        
-        GameSettings settings = GameSettings.getInstance();
         this.unlimitedLives = settings.isUnlimitedLives();
         this.lives = settings.getInitialLives();
         
-        System.out.println("[GameState] Initialized with difficulty: " + settings.getDifficulty().getDisplayName());
-        System.out.println("[GameState] Lives: " + this.lives + ", Unlimited: " + this.unlimitedLives);
+        console.accept("[GameState] Initialized with difficulty: " + settings.getDifficulty().getDisplayName());
+        console.accept("[GameState] Lives: " + this.lives + ", Unlimited: " + this.unlimitedLives);
     }
     
     
@@ -56,21 +72,21 @@ public class GameState {
     
         
     public void loseLife() {
-        System.out.println("[GameState.loseLife] Called! Current state - Lives: " + lives + ", Unlimited: " + unlimitedLives);
+        console.accept("[GameState.loseLife] Called! Current state - Lives: " + lives + ", Unlimited: " + unlimitedLives);
         
         if (unlimitedLives) {
-            System.out.println("[GameState.loseLife] Unlimited lives mode - ignoring life loss");
+            console.accept("[GameState.loseLife] Unlimited lives mode - ignoring life loss");
             return; 
         }
         
         if (lives > 0) {
             lives--;
-            System.out.println("[GameState.loseLife] Life lost! Remaining lives: " + lives);
+            console.accept("[GameState.loseLife] Life lost! Remaining lives: " + lives);
         }
         
         
         if (lives <= 0) {
-            System.out.println("[GameState.loseLife] No lives remaining! Ending game...");
+            console.accept("[GameState.loseLife] No lives remaining! Ending game...");
             failReason = FailReason.NO_LIVES;
             endGame();
         }
@@ -150,18 +166,54 @@ public class GameState {
     
         
     public void reset() {
-        this.timer = new GameTimer(GameConfig.GAME_DURATION_SECONDS);
+        this.timer = new GameTimer(GameConfig.GAME_DURATION_SECONDS, clock);
         this.score = new GameScore();
         this.isGameOver = false;
         this.isPassed = false;
         this.failReason = FailReason.NONE;
         
-        
-        GameSettings settings = GameSettings.getInstance();
         this.unlimitedLives = settings.isUnlimitedLives();
         this.lives = settings.getInitialLives();
         
-        System.out.println("[GameState.reset] Game reset with difficulty: " + settings.getDifficulty().getDisplayName());
-        System.out.println("[GameState.reset] Lives: " + this.lives + ", Unlimited: " + this.unlimitedLives);
+        console.accept("[GameState.reset] Game reset with difficulty: " + settings.getDifficulty().getDisplayName());
+        console.accept("[GameState.reset] Lives: " + this.lives + ", Unlimited: " + this.unlimitedLives);
+    }
+    
+    
+    public Object createMemento() {
+        return new Memento(this);
+    }
+    
+    
+    public void restoreMemento(Object memento) {
+        Memento m = (Memento) memento;
+        timer.restoreMemento(m.timer);
+        score.setScore(m.score);
+        isGameOver = m.isGameOver;
+        isPassed = m.isPassed;
+        lives = m.lives;
+        unlimitedLives = m.unlimitedLives;
+        failReason = m.failReason;
+    }
+    
+    
+    private static final class Memento {
+        final long[] timer;
+        final int score;
+        final boolean isGameOver;
+        final boolean isPassed;
+        final int lives;
+        final boolean unlimitedLives;
+        final FailReason failReason;
+        
+        Memento(GameState state) {
+            this.timer = state.timer.createMemento();
+            this.score = state.score.getCurrentScore();
+            this.isGameOver = state.isGameOver;
+            this.isPassed = state.isPassed;
+            this.lives = state.lives;
+            this.unlimitedLives = state.unlimitedLives;
+            this.failReason = state.failReason;
+        }
     }
 }
@@ -1,6 +1,10 @@
 package nimons.logic;
 
+import nimons.logic.clock.GameClock;
+import nimons.logic.clock.SystemGameClock;
+
 public class GameTimer {
+    private final GameClock clock;
     private long startTime;
     private long pausedTime = 0; 
     private long pauseStartTime = 0;
@@ -8,8 +12,13 @@ public class GameTimer {
     private long durationMs; 
     
     public GameTimer(long durationSeconds) {
+        this(durationSeconds, new SystemGameClock());
+    }
+    
+    public GameTimer(long durationSeconds, GameClock clock) {
+        this.clock = clock;
         this.durationMs = durationSeconds * 1000;
-        this.startTime = System.currentTimeMillis();
+        this.startTime = clock.currentTimeMs();
     }
     
     
@@ -17,7 +26,7 @@ public class GameTimer {
     public void pause() {
         if (!isPaused) {
             isPaused = true;
-            pauseStartTime = System.currentTimeMillis();
+            pauseStartTime = clock.currentTimeMs();
         }
     }
     
@@ -26,7 +35,7 @@ public class GameTimer {
     public void resume() {
         if (isPaused) {
             isPaused = false;
-            pausedTime += System.currentTimeMillis() - pauseStartTime;
+            pausedTime += clock.currentTimeMs() - pauseStartTime;
         }
     }
     
@@ -38,11 +47,12 @@ public class GameTimer {
     
     
     public long getElapsedTimeMs() {
+        long now = clock.currentTimeMs();
         long currentPausedTime = pausedTime;
         if (isPaused) {
-            currentPausedTime += System.currentTimeMillis() - pauseStartTime;
+            currentPausedTime += now - pauseStartTime;
         }
-        return System.currentTimeMillis() - startTime - currentPausedTime;
+        return now - startTime - currentPausedTime;
     }
     
     
@@ -89,4 +99,18 @@ public class GameTimer {
     public String getFormattedElapsedTime() {
         return formatTime(getElapsedTimeSeconds());
     }
+    
+    
+    public long[] createMemento() {
+        return new long[] { startTime, pausedTime, pauseStartTime, isPaused ? 1 : 0, durationMs };
+    }
+    
+    
+    public void restoreMemento(long[] memento) {
+        this.startTime = memento[0];
+        this.pausedTime = memento[1];
+        this.pauseStartTime = memento[2];
+        this.isPaused = memento[3] != 0;
+        this.durationMs = memento[4];
+    }
 }
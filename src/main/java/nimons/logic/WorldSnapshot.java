@@ -0,0 +1,57 @@
+package nimons.logic;
+
+import java.util.Map;
+
+import nimons.entity.chef.Chef;
+import nimons.entity.item.Item;
+import nimons.entity.station.Station;
+
+public class WorldSnapshot {
+    
+    final long tickCount;
+    final long clockTimeMs;
+    final boolean paused;
+    final long lastMoveTime;
+    final boolean[] input;
+    final Chef activeChef;
+    final Object gameState;
+    final Object orders;
+    final Object[] chefs;
+    final Object[] stations;
+    final Object entities;
+    final Map<Class<? extends Station>, Station> activeStations;
+    final int[] itemTiles;
+    final Item[] tileItems;
+    final int[] chefTiles;
+    final Chef[] tileChefs;
+    
+    WorldSnapshot(long tickCount, long clockTimeMs, boolean paused, long lastMoveTime,
+                  boolean[] input, Chef activeChef, Object gameState, Object orders, Object[] chefs, Object[] stations, Object entities,
+                  Map<Class<? extends Station>, Station> activeStations,
+                  int[] itemTiles, Item[] tileItems, int[] chefTiles, Chef[] tileChefs) {
+        this.tickCount = tickCount;
+        this.clockTimeMs = clockTimeMs;
+        this.paused = paused;
+        this.lastMoveTime = lastMoveTime;
+        this.input = input;
+        this.activeChef = activeChef;
+        this.gameState = gameState;
+        this.orders = orders;
+        this.chefs = chefs;
+        this.stations = stations;
+        this.entities = entities;
+        this.activeStations = activeStations;
+        this.itemTiles = itemTiles;
+        this.tileItems = tileItems;
+        this.chefTiles = chefTiles;
+        this.tileChefs = tileChefs;
+    }
+    
+    public long getTickCount() {
+        return tickCount;
+    }
+    
+    public long getElapsedMs() {
+        return clockTimeMs;
+    }
+}
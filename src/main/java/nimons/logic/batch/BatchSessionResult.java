@@ -0,0 +1,46 @@
+package nimons.logic.batch;
+
+import nimons.logic.GameState.FailReason;
+
+public class BatchSessionResult {
+    
+    private final BatchSessionSpec spec;
+    private final int score;
+    private final boolean passed;
+    private final FailReason failReason;
+    private final long simulatedMs;
+    private final long ticks;
+    
+    public BatchSessionResult(BatchSessionSpec spec, int score, boolean passed, FailReason failReason, long simulatedMs, long ticks) {
+        this.spec = spec;
+        this.score = score;
+        this.passed = passed;
+        this.failReason = failReason;
+        this.simulatedMs = simulatedMs;
+        this.ticks = ticks;
+    }
+    
+    public BatchSessionSpec getSpec() {
+        return spec;
+    }
+    
+    public int getScore() {
+        return score;
+    }
+    
+    public boolean isPassed() {
+        return passed;
+    }
+    
+    public FailReason getFailReason() {
+        return failReason;
+    }
+    
+    public long getSimulatedMs() {
+        return simulatedMs;
+    }
+    
+    public long getTicks() {
+        return ticks;
+    }
+}
@@ -0,0 +1,57 @@
+package nimons.logic.batch;
+
+import nimons.core.GameSettings;
+import nimons.core.GameSettings.Difficulty;
+
+public class BatchSessionSpec {
+    
+    private final String stageId;
+    private final long seed;
+    private final Difficulty difficulty;
+    private final long orderSpawnIntervalMs;
+    private final int potCapacity;
+    
+    public BatchSessionSpec(String stageId, long seed, Difficulty difficulty, long orderSpawnIntervalMs, int potCapacity) {
+        this.stageId = stageId;
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.orderSpawnIntervalMs = orderSpawnIntervalMs;
+        this.potCapacity = potCapacity;
+    }
+    
+    
+        
+    public GameSettings toSettings() {
+        GameSettings settings = new GameSettings(difficulty);
+        settings.setOrderSpawnIntervalMs(orderSpawnIntervalMs);
+        settings.setBoilingPotCapacity(potCapacity);
+        settings.setFryingPanCapacity(potCapacity);
+        return settings;
+    }
+    
+    
+        
+    public String getConfigKey() {
+        return stageId + " " + difficulty.name() + " spawn=" + orderSpawnIntervalMs + "ms pot=" + potCapacity;
+    }
+    
+    public String getStageId() {
+        return stageId;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+    
+    public long getOrderSpawnIntervalMs() {
+        return orderSpawnIntervalMs;
+    }
+    
+    public int getPotCapacity() {
+        return potCapacity;
+    }
+}
@@ -0,0 +1,139 @@
+package nimons.logic.batch;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import nimons.core.GameConfig;
+import nimons.core.GameSettings.Difficulty;
+import nimons.logic.GameRandom;
+import nimons.logic.GameSimulation;
+import nimons.logic.GameState;
+
+public class BatchSimulationRunner {
+    
+    private final int parallelism;
+    private Supplier<? extends Consumer<GameSimulation>> driverFactory = ScriptedChefDriver::new;
+    
+    public BatchSimulationRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    public BatchSimulationRunner(int parallelism) {
+        this.parallelism = parallelism;
+    }
+    
+    
+    public void setDriverFactory(Supplier<? extends Consumer<GameSimulation>> driverFactory) {
+        this.driverFactory = driverFactory;
+    }
+    
+    
+        
+    public List<BatchSessionResult> run(List<BatchSessionSpec> specs) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Callable<BatchSessionResult>> tasks = new ArrayList<>(specs.size());
+            for (BatchSessionSpec spec : specs) {
+                tasks.add(() -> runSession(spec));
+            }
+            
+            List<BatchSessionResult> results = new ArrayList<>(specs.size());
+            for (Future<BatchSessionResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch simulation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+    
+    
+        
+    public BatchSessionResult runSession(BatchSessionSpec spec) {
+        GameSimulation simulation = new GameSimulation(spec.getStageId(), spec.getSeed(), spec.toSettings(), false);
+        simulation.start();
+        
+        Consumer<GameSimulation> driver = driverFactory.get();
+        GameState gameState = simulation.getGameState();
+        while (!gameState.isGameOver() && !simulation.isPaused()) {
+            driver.accept(simulation);
+            simulation.step(GameConfig.FIXED_TIMESTEP_MS);
+        }
+        
+        return new BatchSessionResult(
+            spec,
+            gameState.getScore().getCurrentScore(),
+            gameState.isPassed(),
+            gameState.getFailReason(),
+            simulation.getElapsedMs(),
+            simulation.getTickCount()
+        );
+    }
+    
+    
+        
+    public static Map<String, BatchSummary> summarize(List<BatchSessionResult> results) {
+        Map<String, BatchSummary> summaries = new LinkedHashMap<>();
+        for (BatchSessionResult result : results) {
+            String key = result.getSpec().getConfigKey();
+            summaries.computeIfAbsent(key, BatchSummary::new).add(result);
+        }
+        return summaries;
+    }
+    
+    
+        
+    public static List<BatchSessionSpec> buildGrid(String stageId, int seedsPerConfig, long baseSeed,
+                                                   Difficulty[] difficulties, long[] spawnIntervalsMs, int[] potCapacities) {
+        GameRandom seedSource = new GameRandom(baseSeed);
+        long[] seeds = new long[seedsPerConfig];
+        for (int i = 0; i < seedsPerConfig; i++) {
+            seeds[i] = seedSource.nextLong();
+        }
+        
+        List<BatchSessionSpec> specs = new ArrayList<>();
+        for (Difficulty difficulty : difficulties) {
+            for (long interval : spawnIntervalsMs) {
+                for (int capacity : potCapacities) {
+                    for (long seed : seeds) {
+                        specs.add(new BatchSessionSpec(stageId, seed, difficulty, interval, capacity));
+                    }
+                }
+            }
+        }
+        return specs;
+    }
+    
+    
+    public static void main(String[] args) throws InterruptedException {
+        String stageId = args.length > 0 ? args[0] : "stageSushi";
+        int seedsPerConfig = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        long baseSeed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+        
+        List<BatchSessionSpec> specs = buildGrid(stageId, seedsPerConfig, baseSeed,
+            Difficulty.values(), new long[] {10000, 20000, 30000}, new int[] {2, 3, 4});
+        
+        BatchSimulationRunner runner = new BatchSimulationRunner();
+        System.out.println("[BatchSimulationRunner] Running " + specs.size() + " sessions on " + runner.parallelism + " threads...");
+        
+        long startNanos = System.nanoTime();
+        List<BatchSessionResult> results = runner.run(specs);
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        
+        for (BatchSummary summary : summarize(results).values()) {
+            System.out.println(summary);
+        }
+        System.out.println("[BatchSimulationRunner] Done in " + elapsedMs + "ms");
+    }
+}
@@ -0,0 +1,70 @@
+package nimons.logic.batch;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import nimons.logic.GameState.FailReason;
+
+public class BatchSummary {
+    
+    private final String configKey;
+    private int sessions = 0;
+    private int passedSessions = 0;
+    private long totalScore = 0;
+    private int minScore = Integer.MAX_VALUE;
+    private int maxScore = Integer.MIN_VALUE;
+    private final Map<FailReason, Integer> failReasons = new EnumMap<>(FailReason.class);
+    
+    public BatchSummary(String configKey) {
+        this.configKey = configKey;
+    }
+    
+    
+        
+    public void add(BatchSessionResult result) {
+        sessions++;
+        totalScore += result.getScore();
+        minScore = Math.min(minScore, result.getScore());
+        maxScore = Math.max(maxScore, result.getScore());
+        
+        if (result.isPassed()) {
+            passedSessions++;
+        } else {
+            failReasons.merge(result.getFailReason(), 1, Integer::sum);
+        }
+    }
+    
+    public String getConfigKey() {
+        return configKey;
+    }
+    
+    public int getSessions() {
+        return sessions;
+    }
+    
+    public double getAverageScore() {
+        return sessions == 0 ? 0 : (double) totalScore / sessions;
+    }
+    
+    public int getMinScore() {
+        return sessions == 0 ? 0 : minScore;
+    }
+    
+    public int getMaxScore() {
+        return sessions == 0 ? 0 : maxScore;
+    }
+    
+    public double getPassRate() {
+        return sessions == 0 ? 0 : (double) passedSessions / sessions;
+    }
+    
+    public Map<FailReason, Integer> getFailReasons() {
+        return failReasons;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%-40s n=%-5d avg=%7.1f min=%4d max=%4d pass=%5.1f%% fail=%s",
+            configKey, sessions, getAverageScore(), getMinScore(), getMaxScore(), getPassRate() * 100, failReasons);
+    }
+}
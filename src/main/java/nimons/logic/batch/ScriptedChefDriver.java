@@ -0,0 +1,524 @@
+package nimons.logic.batch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import nimons.entity.chef.Chef;
+import nimons.entity.chef.Direction;
+import nimons.entity.common.Position;
+import nimons.entity.item.Ingredient;
+import nimons.entity.item.IngredientState;
+import nimons.entity.item.Item;
+import nimons.entity.item.KitchenUtensil;
+import nimons.entity.item.Plate;
+import nimons.entity.item.interfaces.CookingDevice;
+import nimons.entity.item.interfaces.Preparable;
+import nimons.entity.map.Pathfinder;
+import nimons.entity.map.StationRegistry;
+import nimons.entity.order.IngredientRequirement;
+import nimons.entity.order.Order;
+import nimons.entity.order.OrderStatus;
+import nimons.entity.station.AssemblyStation;
+import nimons.entity.station.CookingStation;
+import nimons.entity.station.CuttingStation;
+import nimons.entity.station.IngredientStorageStation;
+import nimons.entity.station.PlateStorageStation;
+import nimons.entity.station.Rack;
+import nimons.entity.station.ServingStation;
+import nimons.entity.station.Station;
+import nimons.entity.station.TrashStation;
+import nimons.entity.station.WashingStation;
+import nimons.logic.GameSimulation;
+
+public class ScriptedChefDriver implements Consumer<GameSimulation> {
+
+    private static final long STUCK_LIMIT_MS = 20000;
+    private static final double MIN_ORDER_TIME_SECONDS = 30;
+
+    private final Deque<Step> steps = new ArrayDeque<>();
+    private final Set<Integer> unsupportedOrders = new HashSet<>();
+    private GameSimulation simulation;
+    private StationRegistry stations;
+    private Pathfinder pathfinder;
+    private Chef chef;
+    private Station target;
+    private AssemblyStation plateStation;
+    private long stepStartMs;
+
+
+
+    @Override
+    public void accept(GameSimulation simulation) {
+        this.simulation = simulation;
+        this.stations = simulation.getStationRegistry();
+        this.pathfinder = simulation.getTileManager().getPathfinder();
+        this.chef = simulation.getActiveChef();
+        if (chef == null) {
+            return;
+        }
+
+        long now = simulation.getElapsedMs();
+        if (chef.isBusy()) {
+            release();
+            stepStartMs = now;
+            return;
+        }
+        if (steps.isEmpty()) {
+            plan();
+            stepStartMs = now;
+        }
+
+        Step step = steps.peek();
+        if (step == null) {
+            release();
+            return;
+        }
+        if (step.run()) {
+            steps.poll();
+            target = null;
+            stepStartMs = now;
+        } else if (now - stepStartMs > STUCK_LIMIT_MS) {
+            abandon();
+        }
+    }
+
+
+
+    private void plan() {
+        Order order = pickOrder();
+        if (order == null) {
+            return;
+        }
+
+        List<IngredientRequirement> requirements = order.getRecipe().getRequirements();
+        List<IngredientStorageStation> storages = new ArrayList<>();
+        for (IngredientRequirement requirement : requirements) {
+            IngredientStorageStation storage = findStorage(requirement);
+            if (storage == null) {
+                unsupportedOrders.add(order.getIndex());
+                return;
+            }
+            storages.add(storage);
+        }
+
+
+        for (CookingStation stove : stations.getAll(CookingStation.class)) {
+            KitchenUtensil utensil = stove.getUtensils();
+            if (utensil != null && utensil.getContents() != null && !utensil.getContents().isEmpty()) {
+                steps.add(use(() -> stove));
+                steps.add(use(this::trash));
+                steps.add(use(() -> stove));
+            }
+        }
+
+
+        Set<CuttingStation> claimed = new HashSet<>();
+        CuttingStation[] cutters = new CuttingStation[requirements.size()];
+        for (int i = 0; i < requirements.size(); i++) {
+            IngredientRequirement requirement = requirements.get(i);
+            if (needsChopping(requirement, storages.get(i))) {
+                cutters[i] = prepareCutter(requirement, storages.get(i), claimed);
+            }
+        }
+
+        steps.add(this::acquirePlate);
+        steps.add(use(() -> plateStation = nearest(freeAssemblyStations())));
+        steps.add(check(() -> plateStation != null && plateStation.getPlacedItem() instanceof Plate));
+
+
+        List<Integer> cooked = new ArrayList<>();
+        for (int i = 0; i < requirements.size(); i++) {
+            IngredientRequirement requirement = requirements.get(i);
+            IngredientStorageStation storage = storages.get(i);
+            if (requirement.getRequiredState() == IngredientState.COOKED) {
+                cooked.add(i);
+            } else {
+                steps.add(cutters[i] != null ? use(supply(cutters[i])) : use(supply(storage)));
+                steps.add(check(() -> holds(requirement)));
+                steps.add(use(() -> plateStation));
+                steps.add(check(() -> chef.getInventory() == null));
+            }
+        }
+
+        CookingStation[] stoves = new CookingStation[requirements.size()];
+        for (int i : cooked) {
+            IngredientStorageStation storage = storages.get(i);
+            CuttingStation cutter = cutters[i];
+            int slot = i;
+            steps.add(use(cutter != null ? supply(cutter) : supply(storage)));
+            steps.add(use(() -> stoves[slot] = findStove(chef.getInventory())));
+            steps.add(check(() -> chef.getInventory() == null));
+        }
+        for (int i : cooked) {
+            int slot = i;
+            steps.add(walkTo(() -> stoves[slot]));
+            steps.add(waitUntil(() -> cookingState(stoves[slot]) != IngredientState.COOKING));
+            steps.add(check(() -> cookingState(stoves[slot]) == IngredientState.COOKED));
+            steps.add(use(() -> stoves[slot]));
+            steps.add(use(() -> plateStation));
+            steps.add(check(() -> chef.getInventory() instanceof KitchenUtensil
+                && ((KitchenUtensil) chef.getInventory()).getContents().isEmpty()));
+            steps.add(use(() -> stoves[slot]));
+        }
+
+        String recipeName = order.getRecipe().getName();
+        steps.add(use(() -> plateStation));
+        steps.add(check(() -> servesOrder(chef.getInventory(), recipeName)));
+        steps.add(use(() -> nearest(stations.getAll(ServingStation.class))));
+    }
+
+
+
+    private CuttingStation prepareCutter(IngredientRequirement requirement, IngredientStorageStation storage, Set<CuttingStation> claimed) {
+        CuttingStation empty = null;
+        CuttingStation stale = null;
+        for (CuttingStation cutter : stations.getAll(CuttingStation.class)) {
+            if (claimed.contains(cutter)) continue;
+
+            Item placed = cutter.getPlacedItem();
+            if (placed == null) {
+                if (empty == null) empty = cutter;
+            } else if (requirement.getIngredientType().isInstance(placed)
+                && ((Ingredient) placed).getState() == IngredientState.CHOPPED) {
+                claimed.add(cutter);
+                return cutter;
+            } else if (stale == null) {
+                stale = cutter;
+            }
+        }
+
+        CuttingStation cutter = empty != null ? empty : stale;
+        if (cutter == null) {
+            return null;
+        }
+        claimed.add(cutter);
+        if (cutter.getPlacedItem() != null) {
+            steps.add(use(supply(cutter)));
+            steps.add(use(this::trash));
+        }
+        steps.add(use(supply(storage)));
+        steps.add(use(supply(cutter)));
+        steps.add(use(supply(cutter)));
+        steps.add(check(() -> requirement.getIngredientType().isInstance(cutter.getPlacedItem())
+            && ((Ingredient) cutter.getPlacedItem()).getState() == IngredientState.CHOPPED));
+        return cutter;
+    }
+
+
+
+    private boolean acquirePlate() {
+        Item hand = chef.getInventory();
+        if (hand instanceof Plate) {
+            Plate plate = (Plate) hand;
+            if (plate.isClean() && plate.getFood() == null) {
+                return true;
+            }
+            interactWith(plate.getFood() != null ? trash() : stations.getFirst(WashingStation.class));
+            return false;
+        }
+        if (hand != null) {
+            interactWith(trash());
+            return false;
+        }
+
+        Rack rack = stations.getFirst(Rack.class);
+        WashingStation sink = stations.getFirst(WashingStation.class);
+        PlateStorageStation storage = stations.getFirst(PlateStorageStation.class);
+        AssemblyStation leftover = null;
+        for (AssemblyStation station : stations.getAll(AssemblyStation.class)) {
+            if (station.getPlacedItem() instanceof Plate) {
+                leftover = station;
+                break;
+            }
+        }
+
+        if (rack != null && rack.getCleanPlateCount() > 0) {
+            interactWith(rack);
+        } else if (leftover != null) {
+            interactWith(leftover);
+        } else if (sink != null && sink.hasPlatesToWash()) {
+            interactWith(sink);
+        } else if (storage != null && storage.getPlateCount() > 0) {
+            interactWith(storage);
+        } else {
+            release();
+            stepStartMs = simulation.getElapsedMs();
+        }
+        return false;
+    }
+
+
+
+    private void abandon() {
+        steps.clear();
+        target = null;
+        plateStation = null;
+        stepStartMs = simulation.getElapsedMs();
+
+        Item hand = chef.getInventory();
+        if (hand instanceof Plate) {
+            if (((Plate) hand).getFood() != null) {
+                steps.add(use(this::trash));
+            }
+            steps.add(use(() -> nearest(freeAssemblyStations())));
+        } else if (hand instanceof CookingDevice) {
+            KitchenUtensil utensil = (KitchenUtensil) hand;
+            if (utensil.getContents() != null && !utensil.getContents().isEmpty()) {
+                steps.add(use(this::trash));
+            }
+            steps.add(use(this::emptyStove));
+        } else if (hand != null) {
+            steps.add(use(this::trash));
+        }
+    }
+
+
+
+    private Order pickOrder() {
+        Order best = null;
+        Order latest = null;
+        for (Order order : simulation.getOrderManager().getActiveOrders()) {
+            if (order.getStatus() != OrderStatus.ACTIVE || order.getRecipe() == null
+                || unsupportedOrders.contains(order.getIndex())) {
+                continue;
+            }
+            double remaining = order.getRemainingTimeSeconds();
+            if (remaining >= MIN_ORDER_TIME_SECONDS && (best == null || remaining < best.getRemainingTimeSeconds())) {
+                best = order;
+            }
+            if (latest == null || remaining > latest.getRemainingTimeSeconds()) {
+                latest = order;
+            }
+        }
+        return best != null ? best : latest;
+    }
+
+
+    private Step use(Supplier<? extends Station> where) {
+        return () -> {
+            if (target == null) {
+                target = where.get();
+            }
+            return target != null && interactWith(target);
+        };
+    }
+
+
+    private Step walkTo(Supplier<? extends Station> where) {
+        return () -> {
+            Station station = where.get();
+            return station != null && approach(station);
+        };
+    }
+
+
+    private Step waitUntil(BooleanSupplier condition) {
+        return () -> {
+            release();
+            return condition.getAsBoolean();
+        };
+    }
+
+
+    private Step check(BooleanSupplier condition) {
+        return () -> {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            abandon();
+            return false;
+        };
+    }
+
+
+    private static Supplier<Station> supply(Station station) {
+        return () -> station;
+    }
+
+
+
+    private boolean interactWith(Station station) {
+        if (station == null || !approach(station)) {
+            return false;
+        }
+        simulation.interact();
+        return true;
+    }
+
+
+
+    private boolean approach(Station station) {
+        Position from = chef.getPosition();
+        Position to = station.getPosition();
+        int dx = to.getX() - from.getX();
+        int dy = to.getY() - from.getY();
+        if (Math.abs(dx) + Math.abs(dy) == 1) {
+            Direction facing = direction(dx, dy);
+            if (chef.getDirection() == facing) {
+                release();
+                return true;
+            }
+            press(facing);
+            return false;
+        }
+
+        Direction next = pathfinder.nextStep(from, to);
+        if (next == null) {
+            List<Position> path = pathfinder.findPath(from, to);
+            if (path != null && !path.isEmpty()) {
+                next = direction(path.get(0).getX() - from.getX(), path.get(0).getY() - from.getY());
+            }
+        }
+        if (next == null) {
+            release();
+        } else {
+            press(next);
+        }
+        return false;
+    }
+
+
+    private void press(Direction direction) {
+        simulation.setMoveInput(direction == Direction.UP, direction == Direction.DOWN,
+            direction == Direction.LEFT, direction == Direction.RIGHT);
+    }
+
+
+    private void release() {
+        simulation.setMoveInput(false, false, false, false);
+    }
+
+
+    private static Direction direction(int dx, int dy) {
+        for (Direction direction : Direction.values()) {
+            if (direction.getDx() == dx && direction.getDy() == dy) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+
+    private IngredientStorageStation findStorage(IngredientRequirement requirement) {
+        for (IngredientStorageStation storage : stations.getAll(IngredientStorageStation.class)) {
+            if (requirement.getIngredientType().isInstance(storage.getStoredItem())) {
+                return storage;
+            }
+        }
+        return null;
+    }
+
+
+
+    private static boolean needsChopping(IngredientRequirement requirement, IngredientStorageStation storage) {
+        Preparable prototype = (Preparable) storage.getStoredItem();
+        if (requirement.getRequiredState() == IngredientState.CHOPPED) {
+            return true;
+        }
+        return requirement.getRequiredState() == IngredientState.COOKED
+            && prototype.canBeChopped() && !prototype.canBeCooked();
+    }
+
+
+    private CookingStation findStove(Item ingredient) {
+        if (!(ingredient instanceof Preparable)) {
+            return null;
+        }
+        List<CookingStation> candidates = new ArrayList<>();
+        for (CookingStation stove : stations.getAll(CookingStation.class)) {
+            KitchenUtensil utensil = stove.getUtensils();
+            if (utensil instanceof CookingDevice && utensil.getContents().isEmpty()
+                && ((CookingDevice) utensil).canAccept((Preparable) ingredient)) {
+                candidates.add(stove);
+            }
+        }
+        return nearest(candidates);
+    }
+
+
+    private CookingStation emptyStove() {
+        List<CookingStation> candidates = new ArrayList<>();
+        for (CookingStation stove : stations.getAll(CookingStation.class)) {
+            if (stove.getUtensils() == null) {
+                candidates.add(stove);
+            }
+        }
+        return nearest(candidates);
+    }
+
+
+    private static IngredientState cookingState(CookingStation stove) {
+        KitchenUtensil utensil = stove != null ? stove.getUtensils() : null;
+        if (utensil == null || utensil.getContents() == null || utensil.getContents().isEmpty()) {
+            return null;
+        }
+        return utensil.getContents().iterator().next().getState();
+    }
+
+
+    private List<AssemblyStation> freeAssemblyStations() {
+        List<AssemblyStation> free = new ArrayList<>();
+        for (AssemblyStation station : stations.getAll(AssemblyStation.class)) {
+            if (station.getPlacedItem() == null) {
+                free.add(station);
+            }
+        }
+        return free;
+    }
+
+
+    private TrashStation trash() {
+        return nearest(stations.getAll(TrashStation.class));
+    }
+
+
+    private <T extends Station> T nearest(List<T> candidates) {
+        T nearest = null;
+        int best = Integer.MAX_VALUE;
+        for (T station : candidates) {
+            int distance = pathfinder.getDistance(chef.getPosition(), station.getPosition());
+            if (distance < best) {
+                best = distance;
+                nearest = station;
+            }
+        }
+        return nearest;
+    }
+
+
+    private boolean holds(IngredientRequirement requirement) {
+        Item hand = chef.getInventory();
+        return requirement.getIngredientType().isInstance(hand) && ((Ingredient) hand).getState() == requirement.getRequiredState();
+    }
+
+
+
+    private boolean servesOrder(Item hand, String recipeName) {
+        if (!(hand instanceof Plate) || ((Plate) hand).getFood() == null) {
+            return false;
+        }
+        String dishName = ((Plate) hand).getFood().getName();
+        if (!recipeName.equalsIgnoreCase(dishName)) {
+            return false;
+        }
+        for (Order order : simulation.getOrderManager().getActiveOrders()) {
+            if (order.getStatus() == OrderStatus.ACTIVE && order.getRecipe() != null
+                && order.getRecipe().getName().equalsIgnoreCase(dishName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private interface Step {
+        boolean run();
+    }
+}
@@ -0,0 +1,16 @@
+package nimons.logic.clock;
+
+public interface GameClock {
+    
+    
+    long currentTimeMs();
+    
+    
+    void pause();
+    
+    
+    void resume();
+    
+    
+    boolean isPaused();
+}
@@ -0,0 +1,66 @@
+package nimons.logic.clock;
+
+public class ManualGameClock implements GameClock {
+    
+    private volatile long timeMs;
+    private volatile boolean paused = false;
+    
+    public ManualGameClock() {
+        this(0);
+    }
+    
+    public ManualGameClock(long startTimeMs) {
+        this.timeMs = startTimeMs;
+    }
+    
+    
+        
+    public synchronized void advance(long deltaMs) {
+        if (paused || deltaMs <= 0) {
+            return;
+        }
+        timeMs += deltaMs;
+    }
+    
+    
+    public synchronized void setTimeMs(long timeMs) {
+        this.timeMs = timeMs;
+    }
+    
+    
+        
+    public synchronized void reset() {
+        setTimeMs(0);
+        paused = false;
+    }
+    
+    
+    @Override
+    public long currentTimeMs() {
+        return timeMs;
+    }
+    
+    
+    @Override
+    public void pause() {
+        paused = true;
+    }
+    
+    
+    @Override
+    public void resume() {
+        paused = false;
+    }
+    
+    
+    @Override
+    public boolean isPaused() {
+        return paused;
+    }
+    
+    
+    public synchronized void restore(long timeMs, boolean paused) {
+        this.timeMs = timeMs;
+        this.paused = paused;
+    }
+}
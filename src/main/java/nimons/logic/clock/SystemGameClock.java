@@ -0,0 +1,54 @@
+package nimons.logic.clock;
+
+public class SystemGameClock implements GameClock {
+    
+    private double baseNanos = 0;
+    private long lastSampleNanos;
+    private boolean paused = false;
+    
+    public SystemGameClock() {
+        this.lastSampleNanos = System.nanoTime();
+    }
+    
+    
+    @Override
+    public synchronized long currentTimeMs() {
+        sample();
+        return (long) (baseNanos / 1_000_000L);
+    }
+    
+    
+    private void sample() {
+        long now = System.nanoTime();
+        if (!paused) {
+            baseNanos += now - lastSampleNanos;
+        }
+        lastSampleNanos = now;
+    }
+    
+    
+    @Override
+        
+    public synchronized void pause() {
+        if (!paused) {
+            sample();
+            paused = true;
+        }
+    }
+    
+    
+    @Override
+        
+    public synchronized void resume() {
+        if (paused) {
+            sample();
+            paused = false;
+        }
+    }
+    
+    
+    @Override
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+}
@@ -0,0 +1,36 @@
+package nimons.logic.clock;
+
+public enum TimeScale {
+    HALF("0.5x", 0.5),
+    NORMAL("1x", 1.0),
+    DOUBLE("2x", 2.0),
+    TEN("10x", 10.0),
+    UNBOUNDED("Unbounded", -1);
+    
+    private final String displayName;
+    private final double multiplier;
+    
+    TimeScale(String displayName, double multiplier) {
+        this.displayName = displayName;
+        this.multiplier = multiplier;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public double getMultiplier() {
+        return multiplier;
+    }
+    
+        
+    public boolean isUnbounded() {
+        return multiplier < 0;
+    }
+    
+        
+    public TimeScale next() {
+        TimeScale[] values = values();
+        return values[(ordinal() + 1) % values.length];
+    }
+}
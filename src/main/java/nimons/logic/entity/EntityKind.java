@@ -0,0 +1,52 @@
+package nimons.logic.entity;
+
+import nimons.entity.station.AssemblyStation;
+import nimons.entity.station.CookingStation;
+import nimons.entity.station.CuttingStation;
+import nimons.entity.station.IngredientStorageStation;
+import nimons.entity.station.PlateStorageStation;
+import nimons.entity.station.Rack;
+import nimons.entity.station.ServingStation;
+import nimons.entity.station.Station;
+import nimons.entity.station.TrashStation;
+import nimons.entity.station.WashingStation;
+
+public enum EntityKind {
+    CHEF,
+    COOKING,
+    CUTTING,
+    ASSEMBLY,
+    SERVING,
+    WASHING,
+    RACK,
+    INGREDIENT_STORAGE,
+    PLATE_STORAGE,
+    TRASH,
+    OTHER_STATION;
+    
+    private static final EntityKind[] VALUES = values();
+    
+    
+    public static EntityKind fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+    
+    
+        
+    public static EntityKind of(Station station) {
+        if (station instanceof CookingStation) return COOKING;
+        if (station instanceof CuttingStation) return CUTTING;
+        if (station instanceof AssemblyStation) return ASSEMBLY;
+        if (station instanceof ServingStation) return SERVING;
+        if (station instanceof WashingStation) return WASHING;
+        if (station instanceof Rack) return RACK;
+        if (station instanceof IngredientStorageStation) return INGREDIENT_STORAGE;
+        if (station instanceof PlateStorageStation) return PLATE_STORAGE;
+        if (station instanceof TrashStation) return TRASH;
+        return OTHER_STATION;
+    }
+    
+    public boolean isStation() {
+        return this != CHEF;
+    }
+}
@@ -0,0 +1,234 @@
+package nimons.logic.entity;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import nimons.core.GameConfig;
+import nimons.entity.chef.Chef;
+import nimons.entity.station.Station;
+
+public class EntityStore {
+
+    public static final int NO_ENTITY = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size = 0;
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private float[] progress = new float[INITIAL_CAPACITY];
+    private float[] workDuration = new float[INITIAL_CAPACITY];
+    private float[] reportInterval = new float[INITIAL_CAPACITY];
+    private int[] operators = new int[INITIAL_CAPACITY];
+    private boolean[] working = new boolean[INITIAL_CAPACITY];
+    private boolean[] flushedWorking = new boolean[INITIAL_CAPACITY];
+    private boolean[] dirty = new boolean[INITIAL_CAPACITY];
+    private Chef[] chefs = new Chef[INITIAL_CAPACITY];
+    private Station[] stations = new Station[INITIAL_CAPACITY];
+    private IntConsumer stationChangeListener = id -> { };
+    private IntConsumer stationProgressListener = id -> { };
+
+
+    public int addChef(Chef chef) {
+        int id = add(EntityKind.CHEF, chef.getPosition().getX(), chef.getPosition().getY());
+        chefs[id] = chef;
+        chef.setEntityId(id);
+        return id;
+    }
+
+
+    public int addStation(Station station) {
+        EntityKind kind = EntityKind.of(station);
+        int id = add(kind, station.getPosition().getX(), station.getPosition().getY());
+        stations[id] = station;
+        if (kind == EntityKind.CUTTING) {
+            workDuration[id] = GameConfig.CUTTING_REQUIRED_TIME_MS;
+        } else if (kind == EntityKind.WASHING) {
+            workDuration[id] = GameConfig.WASHING_REQUIRED_TIME_MS;
+            reportInterval[id] = GameConfig.WASHING_LOG_INTERVAL_MS;
+        }
+        station.setEntityId(id);
+        return id;
+    }
+
+
+    private int add(EntityKind kind, int x, int y) {
+        if (size == kinds.length) {
+            grow(size * 2);
+        }
+        int id = size++;
+        kinds[id] = (byte) kind.ordinal();
+        xs[id] = x;
+        ys[id] = y;
+        operators[id] = NO_ENTITY;
+        return id;
+    }
+
+
+    private void grow(int capacity) {
+        kinds = Arrays.copyOf(kinds, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        progress = Arrays.copyOf(progress, capacity);
+        workDuration = Arrays.copyOf(workDuration, capacity);
+        reportInterval = Arrays.copyOf(reportInterval, capacity);
+        operators = Arrays.copyOf(operators, capacity);
+        working = Arrays.copyOf(working, capacity);
+        flushedWorking = Arrays.copyOf(flushedWorking, capacity);
+        dirty = Arrays.copyOf(dirty, capacity);
+        chefs = Arrays.copyOf(chefs, capacity);
+        stations = Arrays.copyOf(stations, capacity);
+    }
+
+
+    public void setStationChangeListener(IntConsumer listener) {
+        this.stationChangeListener = listener != null ? listener : id -> { };
+    }
+
+
+    public void setStationProgressListener(IntConsumer listener) {
+        this.stationProgressListener = listener != null ? listener : id -> { };
+    }
+
+
+    public void markDirty(int id) {
+        if (id >= 0 && id < size) {
+            dirty[id] = true;
+        }
+    }
+
+
+
+    public void advanceWork(long deltaTimeMs) {
+        for (int i = 0; i < size; i++) {
+            if (!working[i] || workDuration[i] <= 0) {
+                continue;
+            }
+            float before = progress[i];
+            progress[i] += deltaTimeMs;
+            if (progress[i] >= workDuration[i]) {
+                stations[i].onWorkComplete();
+            } else if (reportInterval[i] > 0 && (int) (before / reportInterval[i]) != (int) (progress[i] / reportInterval[i])) {
+                stations[i].onWorkReport();
+            }
+        }
+    }
+
+
+
+    public void flushChanges() {
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == EntityKind.CHEF.ordinal()) {
+                continue;
+            }
+            if (dirty[i] || working[i] != flushedWorking[i]) {
+                stationChangeListener.accept(i);
+            } else if (working[i]) {
+                stationProgressListener.accept(i);
+            }
+            dirty[i] = false;
+            flushedWorking[i] = working[i];
+        }
+    }
+
+
+    public int chefAt(int x, int y, int exclude) {
+        for (int i = 0; i < size; i++) {
+            if (i != exclude && kinds[i] == EntityKind.CHEF.ordinal() && xs[i] == x && ys[i] == y) {
+                return i;
+            }
+        }
+        return NO_ENTITY;
+    }
+
+
+    public Object createMemento() {
+        return new Memento(Arrays.copyOf(xs, size), Arrays.copyOf(ys, size), Arrays.copyOf(progress, size),
+            Arrays.copyOf(operators, size), Arrays.copyOf(working, size));
+    }
+
+
+    public void restoreMemento(Object memento) {
+        Memento m = (Memento) memento;
+        System.arraycopy(m.xs, 0, xs, 0, m.xs.length);
+        System.arraycopy(m.ys, 0, ys, 0, m.ys.length);
+        System.arraycopy(m.progress, 0, progress, 0, m.progress.length);
+        System.arraycopy(m.operators, 0, operators, 0, m.operators.length);
+        System.arraycopy(m.working, 0, working, 0, m.working.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public EntityKind getKind(int id) {
+        return EntityKind.fromOrdinal(kinds[id]);
+    }
+
+    public int getX(int id) {
+        return xs[id];
+    }
+
+    public int getY(int id) {
+        return ys[id];
+    }
+
+    public void setPosition(int id, int x, int y) {
+        xs[id] = x;
+        ys[id] = y;
+    }
+
+    public float getProgress(int id) {
+        return progress[id];
+    }
+
+    public void setProgress(int id, float value) {
+        progress[id] = value;
+    }
+
+    public float getWorkDuration(int id) {
+        return workDuration[id];
+    }
+
+    public int getOperator(int id) {
+        return operators[id];
+    }
+
+    public void setOperator(int id, int operator) {
+        operators[id] = operator;
+    }
+
+    public boolean isWorking(int id) {
+        return working[id];
+    }
+
+    public void setWorking(int id, boolean value) {
+        working[id] = value;
+    }
+
+    public Chef getChef(int id) {
+        return id >= 0 ? chefs[id] : null;
+    }
+
+    public Station getStation(int id) {
+        return id >= 0 ? stations[id] : null;
+    }
+
+
+    private static final class Memento {
+        final int[] xs;
+        final int[] ys;
+        final float[] progress;
+        final int[] operators;
+        final boolean[] working;
+
+        Memento(int[] xs, int[] ys, float[] progress, int[] operators, boolean[] working) {
+            this.xs = xs;
+            this.ys = ys;
+            this.progress = progress;
+            this.operators = operators;
+            this.working = working;
+        }
+    }
+}
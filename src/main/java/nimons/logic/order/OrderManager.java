@@ -2,38 +2,45 @@ package nimons.logic.order;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import nimons.core.GameConfig;
-import nimons.core.SoundManager;
 import nimons.entity.item.Dish;
 import nimons.entity.order.Order;
 import nimons.entity.order.OrderStatus;
 import nimons.entity.order.Recipe;
-import nimons.gui.GameScreen;
+import nimons.logic.GameRandom;
+import nimons.logic.GameSimulation;
 import nimons.logic.GameState;
 
 public class OrderManager {
     
-    private static OrderManager instance;
     private final List<Order> activeOrders;
     private final List<Recipe> availableRecipes;
     private int nextOrderIndex = 1;
-    private final Random random = new Random();
+    private GameRandom random = new GameRandom(System.nanoTime());
     private static final int MAX_ACTIVE_ORDERS = 3;
-    private long lastOrderTime = 0;
-    private static final long ORDER_SPAWN_INTERVAL = 20000; 
+    private long spawnIntervalMs = GameConfig.ORDER_SPAWN_INTERVAL_MS;
+    private long lastOrderTime = -spawnIntervalMs;
+    private GameSimulation simulation;
     
-    private OrderManager() {
+    public OrderManager() {
         this.activeOrders = new ArrayList<>();
         this.availableRecipes = new ArrayList<>();
     }
-
-    public static OrderManager getInstance() {
-        if (instance == null) {
-            instance = new OrderManager();
-        }
-        return instance;
+    
+    
+    public void setSimulation(GameSimulation simulation) {
+        this.simulation = simulation;
+    }
+    
+    
+    public void setSpawnIntervalMs(long spawnIntervalMs) {
+        this.spawnIntervalMs = spawnIntervalMs;
+    }
+    
+    
+    public void setRandom(GameRandom random) {
+        this.random = random;
     }
     
     
@@ -58,7 +65,7 @@ public class OrderManager {
                 if (newRemaining <= 0) {
                     order.setStatus(OrderStatus.FAILED);
                     
-                    nimons.core.SoundManager.getInstance().playSoundEffect("wrong");
+                    playSound("wrong");
                     if (gameState != null) {
                         gameState.loseLife();
                     }
@@ -71,15 +78,20 @@ public class OrderManager {
     }
     
     private GameState getGameState() {
-        GameScreen gameScreen = GameScreen.getInstance();
-        return gameScreen != null ? gameScreen.getGameState() : null;
+        return simulation != null ? simulation.getGameState() : null;
+    }
+    
+    private void playSound(String name) {
+        if (simulation != null) {
+            simulation.playSound(name);
+        }
     }
     
     
         
     public void trySpawnNewOrder(long currentTimeMs) {
         if (activeOrders.size() < MAX_ACTIVE_ORDERS && 
-            (currentTimeMs - lastOrderTime) >= ORDER_SPAWN_INTERVAL) {
+            (currentTimeMs - lastOrderTime) >= spawnIntervalMs) {
             spawnRandomOrder();
             lastOrderTime = currentTimeMs;
         }
@@ -159,7 +171,7 @@ public class OrderManager {
             activeOrders.remove(earliestMatch);
             
             
-            SoundManager.getInstance().playSoundEffect("correct");
+            playSound("correct");
         }
         
         return earliestMatch;
@@ -177,6 +189,48 @@ public class OrderManager {
     public void reset() {
         activeOrders.clear();
         nextOrderIndex = 1;
-        lastOrderTime = 0;
+        lastOrderTime = -spawnIntervalMs;
+    }
+    
+    
+    public Object createMemento() {
+        return new Memento(copyOrders(activeOrders), nextOrderIndex, lastOrderTime, spawnIntervalMs, random.getState());
+    }
+    
+    
+    public void restoreMemento(Object memento) {
+        Memento m = (Memento) memento;
+        activeOrders.clear();
+        activeOrders.addAll(copyOrders(m.activeOrders));
+        nextOrderIndex = m.nextOrderIndex;
+        lastOrderTime = m.lastOrderTime;
+        spawnIntervalMs = m.spawnIntervalMs;
+        random.setState(m.randomState);
+    }
+    
+    
+    private static List<Order> copyOrders(List<Order> orders) {
+        List<Order> copies = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            copies.add(order.copy());
+        }
+        return copies;
+    }
+    
+    
+    private static final class Memento {
+        final List<Order> activeOrders;
+        final int nextOrderIndex;
+        final long lastOrderTime;
+        final long spawnIntervalMs;
+        final long randomState;
+        
+        Memento(List<Order> activeOrders, int nextOrderIndex, long lastOrderTime, long spawnIntervalMs, long randomState) {
+            this.activeOrders = activeOrders;
+            this.nextOrderIndex = nextOrderIndex;
+            this.lastOrderTime = lastOrderTime;
+            this.spawnIntervalMs = spawnIntervalMs;
+            this.randomState = randomState;
+        }
     }
 }
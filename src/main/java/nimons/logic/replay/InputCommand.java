@@ -0,0 +1,65 @@
+package nimons.logic.replay;
+
+public class InputCommand {
+    
+    public enum Type {
+        MOVE,
+        DASH,
+        INTERACT,
+        THROW,
+        SWITCH_CHEF,
+        PAUSE,
+        RESUME
+    }
+    
+    public static final int UP = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 4;
+    public static final int RIGHT = 8;
+    
+    private final long tick;
+    private final Type type;
+    private final int value;
+    
+    public InputCommand(long tick, Type type, int value) {
+        this.tick = tick;
+        this.type = type;
+        this.value = value;
+    }
+    
+    
+    public static int moveMask(boolean up, boolean down, boolean left, boolean right) {
+        return (up ? UP : 0) | (down ? DOWN : 0) | (left ? LEFT : 0) | (right ? RIGHT : 0);
+    }
+    
+    
+        
+    public static InputCommand parse(String line) {
+        String[] parts = line.trim().split("\\s+");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed input command: " + line);
+        }
+        return new InputCommand(Long.parseLong(parts[0]), Type.valueOf(parts[1]), Integer.parseInt(parts[2]));
+    }
+    
+    public long getTick() {
+        return tick;
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public int getValue() {
+        return value;
+    }
+    
+    public boolean has(int flag) {
+        return (value & flag) != 0;
+    }
+    
+    @Override
+    public String toString() {
+        return tick + " " + type.name() + " " + value;
+    }
+}
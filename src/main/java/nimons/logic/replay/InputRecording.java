@@ -0,0 +1,147 @@
+package nimons.logic.replay;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import nimons.core.GameSettings;
+import nimons.core.GameSettings.Difficulty;
+
+public class InputRecording {
+    
+    private static final String HEADER = "# nimons replay v1";
+    
+    private final String stageId;
+    private final long seed;
+    private final GameSettings settings;
+    private final List<InputCommand> commands = new ArrayList<>();
+    private long endTick = -1;
+    
+    public InputRecording(String stageId, long seed, GameSettings settings) {
+        this.stageId = stageId;
+        this.seed = seed;
+        this.settings = new GameSettings(settings);
+    }
+    
+    
+    public void add(InputCommand command) {
+        commands.add(command);
+    }
+    
+    
+    public void finish(long endTick) {
+        this.endTick = endTick;
+    }
+    
+    
+        
+    public void save(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            writer.write("stage " + stageId);
+            writer.newLine();
+            writer.write("seed " + seed);
+            writer.newLine();
+            writer.write("difficulty " + settings.getDifficulty().name());
+            writer.newLine();
+            writer.write("spawnInterval " + settings.getOrderSpawnIntervalMs());
+            writer.newLine();
+            writer.write("boilingPotCapacity " + settings.getBoilingPotCapacity());
+            writer.newLine();
+            writer.write("fryingPanCapacity " + settings.getFryingPanCapacity());
+            writer.newLine();
+            writer.write("endTick " + endTick);
+            writer.newLine();
+            for (InputCommand command : commands) {
+                writer.write(command.toString());
+                writer.newLine();
+            }
+        }
+    }
+    
+    
+        
+    public static InputRecording load(Path path) throws IOException {
+        String stageId = null;
+        long seed = 0;
+        long endTick = -1;
+        GameSettings settings = new GameSettings();
+        List<InputCommand> commands = new ArrayList<>();
+        
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                
+                String[] parts = line.trim().split("\\s+", 2);
+                switch (parts[0]) {
+                    case "stage":
+                        stageId = parts[1];
+                        break;
+                    case "seed":
+                        seed = Long.parseLong(parts[1]);
+                        break;
+                    case "difficulty":
+                        settings.setDifficulty(Difficulty.valueOf(parts[1]));
+                        break;
+                    case "spawnInterval":
+                        settings.setOrderSpawnIntervalMs(Long.parseLong(parts[1]));
+                        break;
+                    case "boilingPotCapacity":
+                        settings.setBoilingPotCapacity(Integer.parseInt(parts[1]));
+                        break;
+                    case "fryingPanCapacity":
+                        settings.setFryingPanCapacity(Integer.parseInt(parts[1]));
+                        break;
+                    case "endTick":
+                        endTick = Long.parseLong(parts[1]);
+                        break;
+                    default:
+                        commands.add(InputCommand.parse(line));
+                        break;
+                }
+            }
+        }
+        
+        if (stageId == null) {
+            throw new IOException("Replay file has no stage: " + path);
+        }
+        
+        InputRecording recording = new InputRecording(stageId, seed, settings);
+        recording.commands.addAll(commands);
+        recording.endTick = endTick;
+        return recording;
+    }
+    
+    public String getStageId() {
+        return stageId;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public GameSettings getSettings() {
+        return new GameSettings(settings);
+    }
+    
+    public List<InputCommand> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+    
+    public long getEndTick() {
+        return endTick;
+    }
+}
@@ -0,0 +1,51 @@
+package nimons.logic.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import nimons.core.GameConfig;
+import nimons.logic.GameSimulation;
+import nimons.logic.GameState;
+
+public class ReplayRunner {
+    
+        
+    public static GameSimulation replay(InputRecording recording) {
+        GameSimulation simulation = new GameSimulation(recording.getStageId(), recording.getSeed(), recording.getSettings(), false);
+        simulation.start();
+        simulation.startReplay(recording);
+        
+        long endTick = recording.getEndTick();
+        GameState gameState = simulation.getGameState();
+        while (!gameState.isGameOver() && (endTick < 0 || simulation.getTickCount() < endTick)) {
+            if (simulation.isPaused() && !simulation.hasPendingReplayInput()) {
+                break;
+            }
+            simulation.step(GameConfig.FIXED_TIMESTEP_MS);
+        }
+        return simulation;
+    }
+    
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <replay-file>");
+            return;
+        }
+        
+        InputRecording recording = InputRecording.load(Path.of(args[0]));
+        long startNanos = System.nanoTime();
+        GameSimulation simulation = replay(recording);
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        
+        GameState gameState = simulation.getGameState();
+        System.out.println("[ReplayRunner] " + recording.getStageId() + " seed " + recording.getSeed()
+            + ": " + recording.getCommands().size() + " inputs, " + simulation.getTickCount() + " ticks in " + elapsedMs + "ms");
+        System.out.println("[ReplayRunner] Score: " + gameState.getScore().getCurrentScore()
+            + ", lives: " + gameState.getLives()
+            + ", game over: " + gameState.isGameOver()
+            + ", passed: " + gameState.isPassed()
+            + ", reason: " + gameState.getFailReason());
+        System.out.print(simulation.getScheduler().formatStats());
+    }
+}
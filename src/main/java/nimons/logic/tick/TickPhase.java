@@ -0,0 +1,10 @@
+package nimons.logic.tick;
+
+public enum TickPhase {
+    INPUT,
+    MOVEMENT,
+    STATION,
+    ORDER,
+    SCORING,
+    CLEANUP
+}
@@ -0,0 +1,142 @@
+package nimons.logic.tick;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class TickScheduler {
+    
+    private static final TickPhase[] PHASES = TickPhase.values();
+    
+    private final Map<TickPhase, List<Entry>> systems = new EnumMap<>(TickPhase.class);
+    private final long[] lastPhaseNanos = new long[PHASES.length];
+    private final long[] totalPhaseNanos = new long[PHASES.length];
+    private final long[] phaseRuns = new long[PHASES.length];
+    private final long[] skippedSystems = new long[PHASES.length];
+    private boolean profiling = false;
+    
+    public TickScheduler() {
+        for (TickPhase phase : PHASES) {
+            systems.put(phase, new ArrayList<>());
+        }
+    }
+    
+    
+    public void register(TickPhase phase, String name, TickSystem system) {
+        systems.get(phase).add(new Entry(name, system));
+    }
+    
+    
+    public void clear(TickPhase phase) {
+        systems.get(phase).clear();
+    }
+    
+    
+        
+    public void tick(long deltaTimeMs) {
+        runPhases(PHASES[0], deltaTimeMs);
+    }
+    
+    
+        
+    public void runPhases(TickPhase first, long deltaTimeMs) {
+        for (int i = first.ordinal(); i < PHASES.length; i++) {
+            runPhase(PHASES[i], deltaTimeMs);
+        }
+    }
+    
+    
+        
+    public void runPhase(TickPhase phase, long deltaTimeMs) {
+        long start = profiling ? System.nanoTime() : 0;
+        
+        List<Entry> entries = systems.get(phase);
+        int skipped = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            TickSystem system = entries.get(i).system;
+            if (system.isIdle()) {
+                skipped++;
+                continue;
+            }
+            system.update(deltaTimeMs);
+        }
+        
+        int index = phase.ordinal();
+        phaseRuns[index]++;
+        skippedSystems[index] += skipped;
+        if (profiling) {
+            long elapsed = System.nanoTime() - start;
+            lastPhaseNanos[index] = elapsed;
+            totalPhaseNanos[index] += elapsed;
+        }
+    }
+    
+    
+    public List<String> getSystemNames(TickPhase phase) {
+        List<String> names = new ArrayList<>();
+        for (Entry entry : systems.get(phase)) {
+            names.add(entry.name);
+        }
+        return names;
+    }
+    
+    public long getLastPhaseNanos(TickPhase phase) {
+        return lastPhaseNanos[phase.ordinal()];
+    }
+    
+    public long getTotalPhaseNanos(TickPhase phase) {
+        return totalPhaseNanos[phase.ordinal()];
+    }
+    
+    public long getPhaseRuns(TickPhase phase) {
+        return phaseRuns[phase.ordinal()];
+    }
+    
+    public long getSkippedSystems(TickPhase phase) {
+        return skippedSystems[phase.ordinal()];
+    }
+    
+    public boolean isProfiling() {
+        return profiling;
+    }
+    
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+    
+    
+    public void resetStats() {
+        for (int i = 0; i < PHASES.length; i++) {
+            lastPhaseNanos[i] = 0;
+            totalPhaseNanos[i] = 0;
+            phaseRuns[i] = 0;
+            skippedSystems[i] = 0;
+        }
+    }
+    
+    
+        
+    public String formatStats() {
+        StringBuilder sb = new StringBuilder();
+        for (TickPhase phase : PHASES) {
+            int index = phase.ordinal();
+            double avgMicros = phaseRuns[index] == 0 ? 0 : totalPhaseNanos[index] / 1000.0 / phaseRuns[index];
+            String avg = profiling ? String.format("%8.2fus", avgMicros) : "     off";
+            sb.append(String.format("%-9s systems=%-3d runs=%-7d avg=%s skipped=%d%n",
+                phase.name(), systems.get(phase).size(), phaseRuns[index], avg, skippedSystems[index]));
+        }
+        return sb.toString();
+    }
+    
+    
+    private static final class Entry {
+        final String name;
+        final TickSystem system;
+        
+        Entry(String name, TickSystem system) {
+            this.name = name;
+            this.system = system;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package nimons.logic.tick;
+
+public interface TickSystem {
+    
+    
+    void update(long deltaTimeMs);
+    
+    
+    default boolean isIdle() {
+        return false;
+    }
+}